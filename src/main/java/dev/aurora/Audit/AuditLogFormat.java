@@ -0,0 +1,103 @@
+package dev.aurora.Audit;
+
+import dev.aurora.struct.CommandOutcome;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Binary layout shared by the audit writer and reader.
+ *
+ * <pre>
+ * segment: magic(int) version(short) record* 0(int)
+ * record:  length(int) timestamp(long) uuidMost(long) uuidLeast(long) outcome(byte)
+ *          sender(short len + utf8) command(short len + utf8) argCount(short) [arg(short len + utf8)]*
+ * </pre>
+ * The record length includes its own field. A zero length marks the end of the written data,
+ * since freshly mapped segment space is zero-filled.
+ */
+final class AuditLogFormat {
+    static final int MAGIC = 0x41554454; // "AUDT"
+    static final short VERSION = 1;
+    static final int SEGMENT_HEADER_SIZE = 6;
+    static final int FIXED_RECORD_SIZE = 4 + 8 + 8 + 8 + 1;
+    static final String SEGMENT_PREFIX = "audit-";
+    static final String SEGMENT_SUFFIX = ".seg";
+
+    private AuditLogFormat() {
+    }
+
+    /**
+     * Encodes a record into a standalone buffer so the writer only copies it into the segment.
+     */
+    static ByteBuffer encode(AuditRecord record) {
+        byte[] sender = utf8(record.getSenderName());
+        byte[] command = utf8(record.getCommand());
+        String[] args = record.getArgs();
+        byte[][] encodedArgs = new byte[args.length][];
+        int size = FIXED_RECORD_SIZE + 2 + sender.length + 2 + command.length + 2;
+        for (int i = 0; i < args.length; i++) {
+            encodedArgs[i] = utf8(args[i]);
+            size += 2 + encodedArgs[i].length;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(size);
+        buffer.putLong(record.getTimestamp());
+        buffer.putLong(record.getSenderId().getMostSignificantBits());
+        buffer.putLong(record.getSenderId().getLeastSignificantBits());
+        buffer.put((byte) record.getOutcome().getId());
+        putString(buffer, sender);
+        putString(buffer, command);
+        buffer.putShort((short) encodedArgs.length);
+        for (byte[] arg : encodedArgs) {
+            putString(buffer, arg);
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Decodes the record at the buffer's position, advancing past it.
+     */
+    static AuditRecord decode(ByteBuffer buffer) {
+        buffer.getInt();
+        long timestamp = buffer.getLong();
+        UUID senderId = new UUID(buffer.getLong(), buffer.getLong());
+        CommandOutcome outcome = CommandOutcome.fromId(buffer.get());
+        String sender = getString(buffer);
+        String command = getString(buffer);
+        String[] args = new String[buffer.getShort() & 0xFFFF];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = getString(buffer);
+        }
+        return new AuditRecord(timestamp, senderId, sender, command, args, outcome);
+    }
+
+    private static byte[] utf8(String value) {
+        byte[] bytes = (value != null ? value : "").getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            // Back off to the start of the character that would be cut so no partial sequence is written
+            int end = 0xFFFF;
+            while (end > 0 && (bytes[end] & 0xC0) == 0x80) {
+                end--;
+            }
+            byte[] truncated = new byte[end];
+            System.arraycopy(bytes, 0, truncated, 0, end);
+            return truncated;
+        }
+        return bytes;
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] bytes) {
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,119 @@
+package dev.aurora.Audit;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Offline reader for audit segment files written by {@link AuditLogWriter}.
+ * Supports filtering by player, command and time range.
+ */
+public class AuditLogReader {
+    private final File directory;
+
+    public AuditLogReader(File directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Finds all records matching the filters, oldest first.
+     *
+     * @param player  The sender UUID to match, or null for any sender.
+     * @param command The command name to match (case-insensitive), or null for any command.
+     * @param from    The earliest timestamp in milliseconds (inclusive).
+     * @param to      The latest timestamp in milliseconds (inclusive).
+     * @return The matching records.
+     * @throws IOException If a segment cannot be read.
+     */
+    public List<AuditRecord> query(UUID player, String command, long from, long to) throws IOException {
+        List<AuditRecord> results = new ArrayList<>();
+        scan(record -> {
+            if (record.getTimestamp() < from || record.getTimestamp() > to) {
+                return;
+            }
+            if (player != null && !player.equals(record.getSenderId())) {
+                return;
+            }
+            if (command != null && !command.equalsIgnoreCase(record.getCommand())) {
+                return;
+            }
+            results.add(record);
+        });
+        return results;
+    }
+
+    /**
+     * Streams every record in every segment, oldest first.
+     *
+     * @param consumer Receives each record.
+     * @throws IOException If a segment cannot be read.
+     */
+    public void scan(Consumer<AuditRecord> consumer) throws IOException {
+        for (File file : listSegments(directory)) {
+            MappedByteBuffer buffer;
+            try (RandomAccessFile raf = new RandomAccessFile(file, "r"); FileChannel channel = raf.getChannel()) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+            if (buffer.remaining() < AuditLogFormat.SEGMENT_HEADER_SIZE || buffer.getInt() != AuditLogFormat.MAGIC) {
+                continue;
+            }
+            buffer.getShort();
+            while (buffer.remaining() >= 4) {
+                int length = buffer.getInt(buffer.position());
+                if (length < AuditLogFormat.FIXED_RECORD_SIZE || length > buffer.remaining()) {
+                    break;
+                }
+                consumer.accept(AuditLogFormat.decode(buffer));
+            }
+        }
+    }
+
+    static File[] listSegments(File directory) {
+        File[] files = directory.listFiles((dir, name) -> name.startsWith(AuditLogFormat.SEGMENT_PREFIX) && name.endsWith(AuditLogFormat.SEGMENT_SUFFIX));
+        if (files == null) {
+            return new File[0];
+        }
+        // Segment names start with their creation time, so name order is write order
+        Arrays.sort(files, (a, b) -> {
+            int compare = Long.compare(segmentTime(a), segmentTime(b));
+            return compare != 0 ? compare : a.getName().compareTo(b.getName());
+        });
+        return files;
+    }
+
+    private static long segmentTime(File file) {
+        String name = file.getName();
+        int start = AuditLogFormat.SEGMENT_PREFIX.length();
+        int end = name.indexOf('-', start);
+        try {
+            return Long.parseLong(name.substring(start, end > 0 ? end : name.length() - AuditLogFormat.SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    /**
+     * Command-line entry point for querying audit logs offline.
+     * Usage: {@code <directory> [player-uuid|*] [command|*] [fromMillis] [toMillis]}
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: AuditLogReader <directory> [player-uuid|*] [command|*] [fromMillis] [toMillis]");
+            return;
+        }
+        UUID player = args.length > 1 && !args[1].equals("*") ? UUID.fromString(args[1]) : null;
+        String command = args.length > 2 && !args[2].equals("*") ? args[2] : null;
+        long from = args.length > 3 ? Long.parseLong(args[3]) : Long.MIN_VALUE;
+        long to = args.length > 4 ? Long.parseLong(args[4]) : Long.MAX_VALUE;
+        for (AuditRecord record : new AuditLogReader(new File(args[0])).query(player, command, from, to)) {
+            System.out.println(record);
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package dev.aurora.Audit;
+
+import dev.aurora.struct.CommandOutcome;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * Asynchronous journal of executed commands. Dispatch only enqueues a record on a lock-free queue;
+ * a background thread appends queued records in batches to fixed-size memory-mapped segment files,
+ * rotating to a new segment when the current one is full and deleting the oldest beyond the retention limit.
+ * Only the current segment is mapped: a full segment is unmapped as soon as the writer rotates, rather than
+ * when the garbage collector gets to its buffer, so retention costs disk space but not address space.
+ * Where the JVM offers no way to unmap, segments are released by the garbage collector as before.
+ */
+public class AuditLogWriter {
+    private static final int BATCH_SIZE = 512;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final Consumer<MappedByteBuffer> UNMAPPER = findUnmapper();
+
+    private final File directory;
+    private final Logger logger;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final int maxQueued;
+    private final ConcurrentLinkedQueue<AuditRecord> queue;
+    private final AtomicInteger queued;
+    private final AtomicLong dropped;
+    private final Thread writerThread;
+    private volatile boolean running;
+    private MappedByteBuffer segment;
+
+    /**
+     * Creates and starts an audit writer.
+     *
+     * @param directory   The directory segment files are written to.
+     * @param logger      The logger for I/O failures.
+     * @param segmentSize The size of each segment file in bytes.
+     * @param maxSegments How many segment files are kept before the oldest is deleted.
+     * @param maxQueued   How many records may wait in the queue before new ones are dropped.
+     */
+    public AuditLogWriter(File directory, Logger logger, int segmentSize, int maxSegments, int maxQueued) {
+        this.directory = directory;
+        this.logger = logger;
+        this.segmentSize = segmentSize;
+        this.maxSegments = maxSegments;
+        this.maxQueued = maxQueued;
+        this.queue = new ConcurrentLinkedQueue<>();
+        this.queued = new AtomicInteger();
+        this.dropped = new AtomicLong();
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            logger.severe("Could not create audit log directory: " + directory);
+        }
+        this.running = true;
+        this.writerThread = new Thread(this::run, "Aurora-Audit-Writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Creates and starts an audit writer keeping 64 segments of 16 MiB and up to 100,000 queued records.
+     *
+     * @param directory The directory segment files are written to.
+     * @param logger    The logger for I/O failures.
+     */
+    public AuditLogWriter(File directory, Logger logger) {
+        this(directory, logger, 16 * 1024 * 1024, 64, 100_000);
+    }
+
+    /**
+     * Queues a record for the executed command. Never blocks the calling thread.
+     *
+     * @param sender  The sender that ran the command.
+     * @param command The command name.
+     * @param args    The raw arguments.
+     * @param outcome The dispatch outcome.
+     */
+    public void append(CommandSender sender, String command, String[] args, CommandOutcome outcome) {
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            dropped.incrementAndGet();
+            return;
+        }
+        queue.add(new AuditRecord(System.currentTimeMillis(),
+                sender instanceof Player ? ((Player) sender).getUniqueId() : AuditRecord.NON_PLAYER,
+                sender.getName(), command, args != null ? args.clone() : new String[0], outcome));
+        if (queued.get() >= BATCH_SIZE) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    private void run() {
+        while (running || !queue.isEmpty()) {
+            int written = 0;
+            AuditRecord record;
+            while (written < BATCH_SIZE && (record = queue.poll()) != null) {
+                queued.decrementAndGet();
+                write(AuditLogFormat.encode(record));
+                written++;
+            }
+            if (written == 0 && running) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+        }
+        if (segment != null) {
+            segment.force();
+            release();
+        }
+    }
+
+    private void write(ByteBuffer record) {
+        // Keep room for the terminating zero length
+        if (record.remaining() + 4 > segmentSize - AuditLogFormat.SEGMENT_HEADER_SIZE) {
+            logger.warning("Dropping audit record larger than a segment");
+            return;
+        }
+        try {
+            if (segment == null || segment.remaining() < record.remaining() + 4) {
+                rotate();
+            }
+            segment.put(record);
+        } catch (IOException e) {
+            logger.severe("Failed to write audit record: " + e.getMessage());
+        }
+    }
+
+    private void rotate() throws IOException {
+        if (segment != null) {
+            segment.force();
+            release();
+        }
+        File file = new File(directory, AuditLogFormat.SEGMENT_PREFIX + System.currentTimeMillis() + "-" + System.nanoTime() + AuditLogFormat.SEGMENT_SUFFIX);
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw"); FileChannel channel = raf.getChannel()) {
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+        segment.putInt(AuditLogFormat.MAGIC);
+        segment.putShort(AuditLogFormat.VERSION);
+        deleteOldSegments();
+    }
+
+    /**
+     * Unmaps the current segment. The buffer must not be touched afterwards, so the field is cleared first.
+     */
+    private void release() {
+        MappedByteBuffer mapped = segment;
+        segment = null;
+        if (UNMAPPER != null) {
+            UNMAPPER.accept(mapped);
+        }
+    }
+
+    private static Consumer<MappedByteBuffer> findUnmapper() {
+        try {
+            // Java 9 and later
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            Object unsafe = theUnsafe.get(null);
+            return buffer -> invokeQuietly(invokeCleaner, unsafe, buffer);
+        } catch (ReflectiveOperationException | RuntimeException ignored) {
+            // fall through to the Java 8 cleaner
+        }
+        try {
+            Method cleaner = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+            Method clean = Class.forName("sun.misc.Cleaner").getMethod("clean");
+            return buffer -> invokeQuietly(clean, invokeQuietly(cleaner, buffer));
+        } catch (ReflectiveOperationException | RuntimeException ignored) {
+            return null;
+        }
+    }
+
+    private static Object invokeQuietly(Method method, Object target, Object... args) {
+        if (target == null) {
+            return null;
+        }
+        try {
+            return method.invoke(target, args);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private void deleteOldSegments() {
+        File[] segments = AuditLogReader.listSegments(directory);
+        for (int i = 0; i < segments.length - maxSegments; i++) {
+            if (!segments[i].delete()) {
+                logger.warning("Could not delete old audit segment: " + segments[i].getName());
+            }
+        }
+    }
+
+    /**
+     * Gets how many records were dropped because the queue was full.
+     *
+     * @return The dropped record count.
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Flushes all queued records and stops the writer thread.
+     */
+    public void close() {
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,60 @@
+package dev.aurora.Audit;
+
+import dev.aurora.struct.CommandOutcome;
+
+import java.util.UUID;
+
+/**
+ * A single executed command as stored in the audit journal.
+ */
+public class AuditRecord {
+    /**
+     * UUID recorded for senders that are not players, such as the console or command blocks.
+     */
+    public static final UUID NON_PLAYER = new UUID(0L, 0L);
+
+    private final long timestamp;
+    private final UUID senderId;
+    private final String senderName;
+    private final String command;
+    private final String[] args;
+    private final CommandOutcome outcome;
+
+    public AuditRecord(long timestamp, UUID senderId, String senderName, String command, String[] args, CommandOutcome outcome) {
+        this.timestamp = timestamp;
+        this.senderId = senderId;
+        this.senderName = senderName;
+        this.command = command;
+        this.args = args;
+        this.outcome = outcome;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public UUID getSenderId() {
+        return senderId;
+    }
+
+    public String getSenderName() {
+        return senderName;
+    }
+
+    public String getCommand() {
+        return command;
+    }
+
+    public String[] getArgs() {
+        return args.clone();
+    }
+
+    public CommandOutcome getOutcome() {
+        return outcome;
+    }
+
+    @Override
+    public String toString() {
+        return timestamp + " " + senderName + " (" + senderId + ") /" + command + (args.length > 0 ? " " + String.join(" ", args) : "") + " -> " + outcome;
+    }
+}
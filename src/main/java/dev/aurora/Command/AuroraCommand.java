@@ -1,15 +1,33 @@
 package dev.aurora.Command;
 
 import dev.aurora.Execption.ArgumentParseException;
+import dev.aurora.Execption.LazyArgumentException;
 import dev.aurora.Manager.CommandManager;
+import dev.aurora.Manager.CpuQuotaTracker;
+import dev.aurora.Message.MessageKey;
 import dev.aurora.struct.ArgumentType;
+import dev.aurora.struct.CacheScope;
 import dev.aurora.struct.CommandContext;
+import dev.aurora.struct.CommandInvocation;
+import dev.aurora.struct.CommandOutcome;
+import dev.aurora.struct.CommandSpec;
+import dev.aurora.struct.FlagSet;
+import dev.aurora.struct.IncrementalTask;
+import dev.aurora.struct.OverloadTree;
+import dev.aurora.struct.ParsePlan;
+import dev.aurora.struct.ParsedArguments;
+import dev.aurora.struct.QuotaAction;
+import dev.aurora.struct.ResultCache;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -25,20 +43,38 @@ public class AuroraCommand {
     private long cooldownMillis;
     private final Map<UUID, Long> cooldowns;
     private final List<ArgumentEntry> arguments;
+    private ParsePlan plan;
     private BiConsumer<CommandSender, CommandContext> executor;
+    private BiFunction<CommandSender, CommandContext, IncrementalTask> incrementalExecutor;
+    private Consumer<List<CommandInvocation>> batchExecutor;
+    private long batchWindowTicks;
+    private List<CommandInvocation> pendingBatch;
+    private final List<Overload> overloads;
+    private CompiledOverloads compiledOverloads;
+    private final List<FlagEntry> flags;
+    private FlagSet flagSet;
+    private String usage;
+    private String subCommandNames;
     private Class<? extends CommandSender> senderType;
+    private String cpuGroup;
+    private boolean lazyArguments;
+    private ResultCache resultCache;
+    private Function<CommandSender, String> cacheScope;
+    private boolean warnedEmptyResult;
     private final List<AuroraCommand> subCommands;
     private final CommandManager manager;
     private final Logger logger;
 
-    // Inner class to store argument name and type
+    // Inner class to store argument name, type and whether it may be omitted
     private static class ArgumentEntry {
         private final String name;
         private final ArgumentType<?> type;
+        private final boolean optional;
 
-        ArgumentEntry(String name, ArgumentType<?> type) {
+        ArgumentEntry(String name, ArgumentType<?> type, boolean optional) {
             this.name = name;
             this.type = type;
+            this.optional = optional;
         }
 
         String getName() {
@@ -50,6 +86,43 @@ public class AuroraCommand {
         }
     }
 
+    // Inner class to store an option; a null type marks a switch without a value
+    private static class FlagEntry {
+        private final String name;
+        private final char shortName;
+        private final ArgumentType<?> type;
+
+        FlagEntry(String name, char shortName, ArgumentType<?> type) {
+            this.name = name;
+            this.shortName = shortName;
+            this.type = type;
+        }
+    }
+
+    // Inner class to store an additional argument signature with its own execution
+    private static class Overload {
+        private final ParsePlan plan;
+        private final BiConsumer<CommandSender, CommandContext> executor;
+
+        Overload(ParsePlan plan, BiConsumer<CommandSender, CommandContext> executor) {
+            this.plan = plan;
+            this.executor = executor;
+        }
+    }
+
+    // All signatures of this command and the decision tree that picks between them
+    private static class CompiledOverloads {
+        private final ParsePlan[] plans;
+        private final List<BiConsumer<CommandSender, CommandContext>> executors;
+        private final OverloadTree tree;
+
+        CompiledOverloads(ParsePlan[] plans, List<BiConsumer<CommandSender, CommandContext>> executors) {
+            this.plans = plans;
+            this.executors = executors;
+            this.tree = new OverloadTree(plans);
+        }
+    }
+
     /**
      * Constructs a new AuroraCommand with the specified name and manager.
      *
@@ -63,6 +136,8 @@ public class AuroraCommand {
         this.cooldowns = new HashMap<>();
         this.arguments = new ArrayList<>();
         this.subCommands = new ArrayList<>();
+        this.overloads = new ArrayList<>();
+        this.flags = new ArrayList<>();
         this.senderType = CommandSender.class;
         this.logger = Logger.getLogger("InfusedAddons");
     }
@@ -116,6 +191,63 @@ public class AuroraCommand {
         return this;
     }
 
+    /**
+     * Puts the command in a CPU quota group. Executor CPU time of players is charged to the group's rolling
+     * budget, set with {@link CommandManager#setCpuQuota}, and the command is rejected or deferred once it is used up.
+     *
+     * @param group The group name (e.g., "economy").
+     * @return This AuroraCommand for chaining.
+     */
+    public AuroraCommand addCpuQuotaGroup(String group) {
+        this.cpuGroup = group;
+        logger.info("Set CPU quota group '" + group + "' for command: " + name);
+        return this;
+    }
+
+    /**
+     * Caches the command's chat output for every sender for the given time. Results are keyed by the parsed
+     * arguments, replayed from the cache on a hit, and concurrent misses on one key execute only once.
+     * Only replies sent through {@link CommandContext#reply} are cached, and executions without replies are not;
+     * the executor always receives the real sender. A dispatch that arrives while the same result is being
+     * computed reports {@link CommandOutcome#DEFERRED} and receives the output once it is ready.
+     * Only use this for commands whose output does not depend on who runs them.
+     *
+     * @param ttlSeconds How long a result is reused.
+     * @return This AuroraCommand for chaining.
+     */
+    public AuroraCommand addResultCache(long ttlSeconds) {
+        return addResultCache(ttlSeconds, CacheScope.GLOBAL);
+    }
+
+    /**
+     * Caches the command's chat output, shared according to the scope.
+     *
+     * @param ttlSeconds How long a result is reused.
+     * @param scope      Whether results are shared by everyone or kept per sender.
+     * @return This AuroraCommand for chaining.
+     */
+    public AuroraCommand addResultCache(long ttlSeconds, CacheScope scope) {
+        if (scope == CacheScope.SENDER) {
+            return addResultCache(ttlSeconds, sender -> sender instanceof Player ? ((Player) sender).getUniqueId().toString() : sender.getName());
+        }
+        return addResultCache(ttlSeconds, sender -> "");
+    }
+
+    /**
+     * Caches the command's chat output, shared by all senders the resolver maps to the same group
+     * (e.g., a permission group or rank).
+     *
+     * @param ttlSeconds    How long a result is reused.
+     * @param groupResolver Maps a sender to the id of the group whose members share results.
+     * @return This AuroraCommand for chaining.
+     */
+    public AuroraCommand addResultCache(long ttlSeconds, Function<CommandSender, String> groupResolver) {
+        this.resultCache = new ResultCache(ttlSeconds * 1000, 256);
+        this.cacheScope = groupResolver;
+        logger.info("Set result cache " + ttlSeconds + " seconds for command: " + name);
+        return this;
+    }
+
     /**
      * Adds an argument to the command with a user-defined name and type.
      *
@@ -125,7 +257,88 @@ public class AuroraCommand {
      */
     public AuroraCommand addArgument(String name, ArgumentType<?> type) {
         logger.info("Adding argument: name=" + name + ", type=" + type.getName());
-        arguments.add(new ArgumentEntry(name, type));
+        if (!arguments.isEmpty() && arguments.get(arguments.size() - 1).optional) {
+            throw new IllegalArgumentException("Required argument '" + name + "' cannot follow an optional argument in command: " + this.name);
+        }
+        arguments.add(new ArgumentEntry(name, type, false));
+        plan = null;
+        usage = null;
+        return this;
+    }
+
+    /**
+     * Adds an argument to the command whose type is looked up by name in the manager's ArgumentTypeRegistry.
+     *
+     * @param name     The name of the argument (e.g., "target").
+     * @param typeName The registered type name (e.g., "player").
+     * @return This AuroraCommand for chaining.
+     * @throws IllegalArgumentException If no type is registered under the name.
+     */
+    public AuroraCommand addArgument(String name, String typeName) {
+        ArgumentType<?> type = manager.getArgumentRegistry().getType(typeName);
+        if (type == null) {
+            throw new IllegalArgumentException("Unknown argument type '" + typeName + "' for command: " + this.name);
+        }
+        return addArgument(name, type);
+    }
+
+    /**
+     * Adds an optional trailing argument. When it is omitted the context holds no value for it.
+     *
+     * @param name The name of the argument (e.g., "silent").
+     * @param type The argument type (e.g., BooleanArgumentType).
+     * @return This AuroraCommand for chaining.
+     */
+    public AuroraCommand addOptionalArgument(String name, ArgumentType<?> type) {
+        logger.info("Adding optional argument: name=" + name + ", type=" + type.getName());
+        arguments.add(new ArgumentEntry(name, type, true));
+        plan = null;
+        usage = null;
+        return this;
+    }
+
+    /**
+     * Defers parsing of this command's arguments until the executor first reads them, so expensive lookups
+     * are skipped for arguments the executor never touches. Obviously malformed tokens are still rejected
+     * before the executor runs; other parse errors surface from {@link CommandContext#getArgument(String)}
+     * and are reported to the sender as usual. Batched commands resolve every argument before an invocation
+     * joins the batch.
+     *
+     * @return This AuroraCommand for chaining.
+     */
+    public AuroraCommand addLazyArguments() {
+        logger.info("Enabling lazy argument parsing for command: " + name);
+        this.lazyArguments = true;
+        return this;
+    }
+
+    /**
+     * Adds arguments declared as a spec, e.g. {@code <target:player> <dest:location> [silent:boolean]}.
+     * Types are resolved through the manager's ArgumentTypeRegistry.
+     *
+     * @param spec The argument spec.
+     * @return This AuroraCommand for chaining.
+     * @throws IllegalArgumentException If the spec is malformed or names an unknown type.
+     */
+    public AuroraCommand addArguments(String spec) {
+        applySpec(CommandSpec.parseArguments(spec, manager.getArgumentRegistry()));
+        return this;
+    }
+
+    /**
+     * Adds the arguments of a parsed spec to this command.
+     *
+     * @param spec The parsed spec.
+     * @return This AuroraCommand for chaining.
+     */
+    public AuroraCommand applySpec(CommandSpec spec) {
+        for (int i = 0; i < spec.getArgumentCount(); i++) {
+            if (spec.isOptional(i)) {
+                addOptionalArgument(spec.getArgumentName(i), spec.getArgumentType(i));
+            } else {
+                addArgument(spec.getArgumentName(i), spec.getArgumentType(i));
+            }
+        }
         return this;
     }
 
@@ -139,10 +352,124 @@ public class AuroraCommand {
     public AuroraCommand addExecution(Class<? extends CommandSender> senderType, BiConsumer<CommandSender, CommandContext> executor) {
         this.senderType = senderType;
         this.executor = executor;
+        compiledOverloads = null;
+        usage = null;
         logger.info("Set execution for command: " + name + ", senderType: " + senderType.getSimpleName());
         return this;
     }
 
+    /**
+     * Sets incremental execution logic for heavy commands. Instead of doing all work inside one call,
+     * the executor returns a task that the CommandManager steps across ticks within the shared tick budget.
+     *
+     * @param senderType The type of sender (e.g., Player.class).
+     * @param executor   Creates the task to run, or returns null if there is nothing to do.
+     * @return This AuroraCommand for chaining.
+     */
+    public AuroraCommand addIncrementalExecution(Class<? extends CommandSender> senderType, BiFunction<CommandSender, CommandContext, IncrementalTask> executor) {
+        this.senderType = senderType;
+        this.incrementalExecutor = executor;
+        compiledOverloads = null;
+        usage = null;
+        logger.info("Set incremental execution for command: " + name + ", senderType: " + senderType.getSimpleName());
+        return this;
+    }
+
+    /**
+     * Adds an option that takes a value, e.g. {@code --duration=1d}, {@code --duration 1d} or {@code -d 1d}.
+     * Options may appear anywhere among the positional arguments; the parsed value is stored in the
+     * context under the long name and is absent when the option is not given.
+     *
+     * @param name      The long name (e.g., "duration").
+     * @param shortName The single-character name (e.g., 'd'), or '\0' for none.
+     * @param type      The value type.
+     * @return This AuroraCommand for chaining.
+     */
+    public AuroraCommand addFlag(String name, char shortName, ArgumentType<?> type) {
+        flags.add(new FlagEntry(name, shortName, type));
+        flagSet = null;
+        usage = null;
+        logger.info("Added flag --" + name + " (type: " + type.getName() + ") to command: " + this.name);
+        return this;
+    }
+
+    /**
+     * Adds a switch, e.g. {@code --silent} or {@code -s}. The context holds true if it was given and false otherwise.
+     *
+     * @param name      The long name (e.g., "silent").
+     * @param shortName The single-character name (e.g., 's'), or '\0' for none.
+     * @return This AuroraCommand for chaining.
+     */
+    public AuroraCommand addSwitch(String name, char shortName) {
+        flags.add(new FlagEntry(name, shortName, null));
+        flagSet = null;
+        usage = null;
+        logger.info("Added switch --" + name + " to command: " + this.name);
+        return this;
+    }
+
+    /**
+     * Adds another argument signature with its own execution, e.g. {@code <target:player>} next to
+     * {@code <dest:location>} and {@code <from:player> <to:player>}. On registration all signatures,
+     * including the one built with addArgument if an execution is set, are compiled into a decision tree
+     * that picks the matching signature by argument count and token shape before parsing.
+     *
+     * @param spec     The argument spec of the signature.
+     * @param executor The execution logic for this signature.
+     * @return This AuroraCommand for chaining.
+     * @throws IllegalArgumentException If the spec is malformed or names an unknown type.
+     */
+    public AuroraCommand addOverload(String spec, BiConsumer<CommandSender, CommandContext> executor) {
+        CommandSpec parsed = CommandSpec.parseArguments(spec, manager.getArgumentRegistry());
+        String[] names = new String[parsed.getArgumentCount()];
+        ArgumentType<?>[] types = new ArgumentType<?>[names.length];
+        int required = 0;
+        for (int i = 0; i < names.length; i++) {
+            names[i] = parsed.getArgumentName(i);
+            types[i] = parsed.getArgumentType(i);
+            if (!parsed.isOptional(i)) {
+                required = i + 1;
+            }
+        }
+        overloads.add(new Overload(new ParsePlan(names, types, required), executor));
+        compiledOverloads = null;
+        usage = null;
+        logger.info("Added overload '" + spec + "' to command: " + name);
+        return this;
+    }
+
+    /**
+     * Sets batched execution logic for hot read-only commands. Invocations within the same tick are collected
+     * and handed to the executor together on the next tick, so it can run one bulk query and reply to each sender.
+     * In a CPU quota group each invocation is checked against its sender's budget and charged an even share of the
+     * batch's CPU time. A command may not also set another kind of execution.
+     *
+     * @param senderType The type of sender (e.g., Player.class).
+     * @param executor   The execution logic, receiving every invocation of the batch in arrival order.
+     * @return This AuroraCommand for chaining.
+     */
+    public AuroraCommand addBatchExecution(Class<? extends CommandSender> senderType, Consumer<List<CommandInvocation>> executor) {
+        return addBatchExecution(senderType, 1L, executor);
+    }
+
+    /**
+     * Sets batched execution logic with a collection window longer than one tick.
+     *
+     * @param senderType  The type of sender (e.g., Player.class).
+     * @param windowTicks How many ticks after the first invocation the batch is executed.
+     * @param executor    The execution logic, receiving every invocation of the batch in arrival order.
+     * @return This AuroraCommand for chaining.
+     */
+    public AuroraCommand addBatchExecution(Class<? extends CommandSender> senderType, long windowTicks, Consumer<List<CommandInvocation>> executor) {
+        this.senderType = senderType;
+        this.batchExecutor = executor;
+        this.batchWindowTicks = Math.max(1L, windowTicks);
+        compiledOverloads = null;
+        usage = null;
+        logger.info("Set batch execution for command: " + name + ", senderType: " + senderType.getSimpleName() + ", window: " + batchWindowTicks + " ticks");
+        return this;
+    }
+
     /**
      * Adds a subcommand to this command.
      *
@@ -151,6 +478,8 @@ public class AuroraCommand {
      */
     public AuroraCommand addSubCommand(AuroraCommand subCommand) {
         subCommands.add(subCommand);
+        usage = null;
+        subCommandNames = null;
         logger.info("Added subcommand '" + subCommand.getName() + "' to command: " + name);
         return this;
     }
@@ -159,22 +488,122 @@ public class AuroraCommand {
      * Registers the command with the CommandManager.
      */
     public void register() {
+        compile();
         manager.registerCommand(this);
         logger.info("Registered command: " + name);
     }
 
+    /**
+     * Compiles the argument lists of this command and all its subcommands into parse plans and caches
+     * their usage and subcommand help. Called on registration; commands changed afterwards are recompiled on their next use.
+     *
+     * @throws IllegalStateException If a command sets more than one kind of execution.
+     */
+    public void compile() {
+        int executions = (executor != null ? 1 : 0) + (incrementalExecutor != null ? 1 : 0) + (batchExecutor != null ? 1 : 0);
+        if (executions > 1) {
+            throw new IllegalStateException("Command " + name + " sets more than one of addExecution, addIncrementalExecution and addBatchExecution");
+        }
+        getPlan();
+        getCompiledOverloads();
+        getFlagSet();
+        getUsage();
+        getSubCommandNames();
+        for (AuroraCommand subCommand : subCommands) {
+            subCommand.compile();
+        }
+    }
+
+    private ParsePlan getPlan() {
+        ParsePlan compiled = plan;
+        if (compiled == null) {
+            String[] names = new String[arguments.size()];
+            ArgumentType<?>[] types = new ArgumentType<?>[arguments.size()];
+            int required = 0;
+            for (int i = 0; i < names.length; i++) {
+                ArgumentEntry entry = arguments.get(i);
+                names[i] = entry.getName();
+                types[i] = entry.getType();
+                if (!entry.optional) {
+                    required = i + 1;
+                }
+            }
+            compiled = new ParsePlan(names, types, required);
+            plan = compiled;
+            compiledOverloads = null;
+        }
+        return compiled;
+    }
+
+    private FlagSet getFlagSet() {
+        if (flags.isEmpty()) {
+            return null;
+        }
+        FlagSet compiled = flagSet;
+        if (compiled == null) {
+            String[] names = new String[flags.size()];
+            char[] shortNames = new char[names.length];
+            ArgumentType<?>[] types = new ArgumentType<?>[names.length];
+            for (int i = 0; i < names.length; i++) {
+                names[i] = flags.get(i).name;
+                shortNames[i] = flags.get(i).shortName;
+                types[i] = flags.get(i).type;
+            }
+            compiled = new FlagSet(names, shortNames, types);
+            flagSet = compiled;
+        }
+        return compiled;
+    }
+
+    private CompiledOverloads getCompiledOverloads() {
+        if (overloads.isEmpty()) {
+            return null;
+        }
+        CompiledOverloads compiled = compiledOverloads;
+        if (compiled == null) {
+            List<ParsePlan> plans = new ArrayList<>();
+            List<BiConsumer<CommandSender, CommandContext>> executors = new ArrayList<>();
+            if (executor != null) {
+                plans.add(getPlan());
+                executors.add(executor);
+            }
+            for (Overload overload : overloads) {
+                plans.add(overload.plan);
+                executors.add(overload.executor);
+            }
+            compiled = new CompiledOverloads(plans.toArray(new ParsePlan[0]), executors);
+            compiledOverloads = compiled;
+        }
+        return compiled;
+    }
+
     /**
      * Executes the command or its subcommands.
      *
      * @param sender The sender executing the command.
      * @param args   The command arguments.
+     * @return The outcome of the dispatch.
      * @throws ArgumentParseException If argument parsing fails.
      */
-    public void execute(CommandSender sender, String[] args) throws ArgumentParseException {
+    public CommandOutcome execute(CommandSender sender, String[] args) throws ArgumentParseException {
+        return execute(sender, args, sender::sendMessage);
+    }
+
+    /**
+     * Executes the command or its subcommands, passing the framework's own messages (usage, permission,
+     * cooldown, ...) to the given feedback instead of the sender. Output of the executor still goes to the sender.
+     *
+     * @param sender   The sender executing the command.
+     * @param args     The command arguments.
+     * @param feedback Receives the framework's messages.
+     * @return The outcome of the dispatch.
+     * @throws ArgumentParseException If argument parsing fails.
+     */
+    public CommandOutcome execute(CommandSender sender, String[] args, Consumer<String> feedback) throws ArgumentParseException {
         logger.info("Executing command: " + name + " for sender: " + sender.getName() + ", args: " + (args != null ? String.join(", ", args) : "null"));
         if (!senderType.isInstance(sender)) {
-            sender.sendMessage("§cThis command is only for " + senderType.getSimpleName() + "!");
-            return;
+            feedback.accept(message(sender, MessageKey.INVALID_SENDER, senderType.getSimpleName()));
+            return CommandOutcome.INVALID_SENDER;
         }
 
         // Check for subcommands
@@ -182,58 +611,492 @@ public class AuroraCommand {
             for (AuroraCommand subCommand : subCommands) {
                 if (subCommand.getName().equalsIgnoreCase(args[0]) || subCommand.getAliases().stream().anyMatch(alias -> alias.equalsIgnoreCase(args[0]))) {
                     if (!subCommand.hasPermission(sender)) {
-                        sender.sendMessage("§cYou don't have permission!");
-                        return;
+                        feedback.accept(message(sender, MessageKey.NO_PERMISSION));
+                        return CommandOutcome.DENIED;
                     }
                     if (subCommand.isOnCooldown(sender)) {
                         long remaining = subCommand.getCooldownRemaining(sender);
-                        sender.sendMessage("§cSubcommand on cooldown! Wait " + (remaining / 1000) + " seconds.");
-                        return;
+                        feedback.accept(message(sender, MessageKey.SUBCOMMAND_COOLDOWN, remaining / 1000));
+                        return CommandOutcome.COOLDOWN;
                     }
-                    subCommand.execute(sender, Arrays.copyOfRange(args, 1, args.length));
+                    CommandOutcome outcome = subCommand.execute(sender, Arrays.copyOfRange(args, 1, args.length), feedback);
                     subCommand.applyCooldown(sender);
-                    return;
+                    return outcome;
                 }
             }
         }
 
+        // Separate options from positional arguments
+        String[] positional = args;
+        Map<String, Object> flagValues = null;
+        FlagSet flagSet = getFlagSet();
+        if (flagSet != null && args != null) {
+            flagValues = new HashMap<>();
+            positional = flagSet.extract(sender, args, flagValues);
+        }
+
+        CompiledOverloads compiled = getCompiledOverloads();
+        if (compiled != null) {
+            return executeOverload(sender, positional != null ? positional : new String[0], flagValues, compiled, feedback);
+        }
+
         // Validate argument count
-        if (args == null || arguments.size() > args.length) {
-            sender.sendMessage("§cUsage: /" + name + " " + getUsage());
-            logger.warning("Insufficient arguments for " + name + ": expected " + arguments.size() + ", got " + (args != null ? args.length : 0));
-            return;
+        ParsePlan plan = getPlan();
+        if (positional == null || !plan.accepts(positional.length)) {
+            feedback.accept(message(sender, MessageKey.USAGE, name, getUsage()));
+            logger.warning("Insufficient arguments for " + name + ": expected " + plan.getRequired() + ", got " + (positional != null ? positional.length : 0));
+            return CommandOutcome.USAGE;
         }
 
         // Parse arguments
-        CommandContext context = new CommandContext();
-        for (int i = 0; i < arguments.size(); i++) {
-            ArgumentEntry entry = arguments.get(i);
-            String argName = entry.getName(); // Use user-defined name
-            ArgumentType<?> type = entry.getType();
-            String input = i < args.length ? args[i] : null;
-            try {
-                logger.info("Parsing argument " + argName + " (type: " + type.getName() + ") with input: " + (input != null ? input : "null"));
-                Object value = type.parse(sender, input);
-                if (value == null) {
-                    logger.warning("Parsed value is null for argument " + argName);
-                }
-                context.addArgument(argName, value);
-                logger.info("Added argument " + argName + ": " + (value != null ? value.toString() : "null"));
-            } catch (ArgumentParseException e) {
-                logger.warning("Failed to parse argument " + argName + ": " + e.getMessage());
-                throw e;
+        CommandContext context = newContext(flagValues);
+        try {
+            if (lazyArguments) {
+                plan.parseLazily(sender, positional, 0, context);
+            } else {
+                plan.parse(sender, positional, 0, context);
             }
+        } catch (ArgumentParseException e) {
+            logger.warning("Failed to parse arguments for " + name + ": " + e.getMessage());
+            throw e;
         }
 
-        // Execute command
+        return runContext(sender, context, feedback);
+    }
+
+    /**
+     * Hands a fully built context to whichever kind of execution this command defines.
+     */
+    private CommandOutcome runContext(CommandSender sender, CommandContext context, Consumer<String> feedback) throws ArgumentParseException {
         if (executor != null) {
             logger.info("Executing command with context: " + context.toString());
-            executor.accept(sender, context);
+            return runExecutor(sender, context, "", executor, feedback);
+        } else if (batchExecutor != null) {
+            // Quota is checked per invocation on the way in; flushBatch charges each its share of the batch.
+            // Lazy arguments are resolved before joining so a bad one fails only its own invocation.
+            return runUncached(sender, context, (batchSender, batchContext) -> {
+                batchContext.getArguments();
+                enqueueBatch(new CommandInvocation(batchSender, batchContext));
+            }, feedback);
+        } else if (incrementalExecutor != null) {
+            IncrementalTask task;
+            context.setReplyTarget(sender::sendMessage);
+            try {
+                task = incrementalExecutor.apply(sender, context);
+            } catch (LazyArgumentException e) {
+                throw e.getCause();
+            }
+            if (task != null && !manager.getTaskScheduler().submit(sender, name, task)) {
+                feedback.accept(message(sender, MessageKey.ALREADY_RUNNING, name));
+                return CommandOutcome.FAILED;
+            }
         } else if (subCommands.size() > 0) {
-            sender.sendMessage("§cAvailable subcommands: " + getSubCommandNames());
+            feedback.accept(message(sender, MessageKey.AVAILABLE_SUBCOMMANDS, getSubCommandNames()));
+            return CommandOutcome.USAGE;
         } else {
-            sender.sendMessage("§cNo execution defined for this command.");
+            feedback.accept(message(sender, MessageKey.NO_EXECUTION));
+            return CommandOutcome.FAILED;
+        }
+        return CommandOutcome.SUCCESS;
+    }
+
+    /**
+     * Executes this command with already typed argument values, skipping subcommand routing and parsing.
+     * Values must be of the classes the argument types would produce, otherwise a parse error is raised;
+     * switches that are not given are false. For overloaded commands the signature with the most required
+     * arguments that are all given is executed.
+     *
+     * @param sender   The sender executing the command.
+     * @param values   The argument values by name, including flag values.
+     * @param feedback Receives the framework's messages.
+     * @return The outcome of the dispatch.
+     * @throws ArgumentParseException If a value has the wrong type or a lazily read argument fails to parse.
+     */
+    public CommandOutcome executeTyped(CommandSender sender, Map<String, Object> values, Consumer<String> feedback) throws ArgumentParseException {
+        if (!senderType.isInstance(sender)) {
+            feedback.accept(message(sender, MessageKey.INVALID_SENDER, senderType.getSimpleName()));
+            return CommandOutcome.INVALID_SENDER;
+        }
+        // Switches that are not given read as false, as they do after parsing
+        FlagSet flagSet = getFlagSet();
+        Map<String, Object> typedValues = new HashMap<>();
+        if (flagSet != null) {
+            flagSet.putDefaults(typedValues);
+        }
+        typedValues.putAll(values);
+        CommandContext context = newContext(typedValues);
+
+        CompiledOverloads compiled = getCompiledOverloads();
+        if (compiled != null) {
+            int best = -1;
+            for (int i = 0; i < compiled.plans.length; i++) {
+                if (isSatisfiedBy(compiled.plans[i], values) && (best < 0 || compiled.plans[i].getRequired() > compiled.plans[best].getRequired())) {
+                    best = i;
+                }
+            }
+            if (best < 0) {
+                feedback.accept(message(sender, MessageKey.USAGE, name, getUsage()));
+                return CommandOutcome.USAGE;
+            }
+            checkTypes(compiled.plans[best], flagSet, values);
+            return runExecutor(sender, context, compiled.plans[best].getUsage(), compiled.executors.get(best), feedback);
+        }
+
+        if (!isSatisfiedBy(getPlan(), values)) {
+            feedback.accept(message(sender, MessageKey.USAGE, name, getUsage()));
+            return CommandOutcome.USAGE;
+        }
+        checkTypes(getPlan(), flagSet, values);
+        return runContext(sender, context, feedback);
+    }
+
+    /**
+     * Rejects typed values that are not of the class their argument or option type produces, so a wrong
+     * value is reported as a parse error instead of failing inside the executor.
+     */
+    private static void checkTypes(ParsePlan plan, FlagSet flagSet, Map<String, Object> values) throws ArgumentParseException {
+        for (int i = 0; i < plan.size(); i++) {
+            checkType(plan.getName(i), plan.getType(i).getValueType(), values.get(plan.getName(i)));
+        }
+        if (flagSet != null) {
+            for (String option : flagSet.getNames()) {
+                checkType(option, flagSet.getValueType(option), values.get(option));
+            }
+        }
+    }
+
+    private static void checkType(String name, Class<?> valueType, Object value) throws ArgumentParseException {
+        if (value != null && !valueType.isInstance(value)) {
+            throw new ArgumentParseException("Argument '" + name + "' must be a " + valueType.getSimpleName()
+                    + ", got " + value.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Renders typed values as {@code name=value} tokens for audit and watchdog reports: arguments in signature
+     * order, then options, then any other values by name.
+     *
+     * @param values The argument values by name.
+     * @return The rendered values.
+     */
+    public String[] describeTyped(Map<String, Object> values) {
+        Set<String> order = new LinkedHashSet<>();
+        CompiledOverloads compiled = getCompiledOverloads();
+        for (ParsePlan signature : compiled != null ? compiled.plans : new ParsePlan[]{getPlan()}) {
+            for (int i = 0; i < signature.size(); i++) {
+                order.add(signature.getName(i));
+            }
         }
+        FlagSet flagSet = getFlagSet();
+        if (flagSet != null) {
+            Collections.addAll(order, flagSet.getNames());
+        }
+        order.addAll(new TreeSet<>(values.keySet()));
+
+        List<String> rendered = new ArrayList<>();
+        for (String key : order) {
+            if (values.containsKey(key)) {
+                Object value = values.get(key);
+                rendered.add(key + "=" + (value instanceof CommandSender ? ((CommandSender) value).getName() : String.valueOf(value)));
+            }
+        }
+        return rendered.toArray(new String[0]);
+    }
+
+    /**
+     * Parses a line for the parse cache, without executing it.
+     *
+     * @param sender The sender executing the command.
+     * @param args   The arguments of this command.
+     * @return The parsed arguments, or null if the line cannot be cached: this command has flags or overloads,
+     * parses lazily, would route the line to a subcommand, or rejects the sender or argument count.
+     * @throws ArgumentParseException If argument parsing fails.
+     */
+    public ParsedArguments parseArguments(CommandSender sender, String[] args) throws ArgumentParseException {
+        if (lazyArguments || getFlagSet() != null || getCompiledOverloads() != null || !senderType.isInstance(sender)
+                || (args.length > 0 && getSubCommand(args[0]) != null)) {
+            return null;
+        }
+        ParsePlan plan = getPlan();
+        if (!plan.accepts(args.length)) {
+            return null;
+        }
+        try {
+            return ParsedArguments.parse(plan, sender, args);
+        } catch (ArgumentParseException e) {
+            logger.warning("Failed to parse arguments for " + name + ": " + e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * Prepares cached arguments for a new dispatch, parsing again those whose type is not stable.
+     *
+     * @param sender The sender executing the command.
+     * @param cached Arguments from an earlier {@link #parseArguments} of the same line.
+     * @return The arguments, or null if this command's arguments were changed since they were cached.
+     * @throws ArgumentParseException If argument parsing fails.
+     */
+    public ParsedArguments resolveArguments(CommandSender sender, ParsedArguments cached) throws ArgumentParseException {
+        if (cached.getPlan() != plan || !senderType.isInstance(sender)) {
+            return null;
+        }
+        try {
+            return cached.resolve(sender);
+        } catch (ArgumentParseException e) {
+            logger.warning("Failed to parse arguments for " + name + ": " + e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * Executes this command with arguments from {@link #parseArguments} or {@link #resolveArguments}.
+     *
+     * @param sender   The sender executing the command.
+     * @param parsed   The parsed arguments.
+     * @param feedback Receives the framework's messages.
+     * @return The outcome of the dispatch.
+     * @throws ArgumentParseException If a lazily read argument fails to parse.
+     */
+    public CommandOutcome executeParsed(CommandSender sender, ParsedArguments parsed, Consumer<String> feedback) throws ArgumentParseException {
+        CommandContext context = new CommandContext();
+        parsed.fill(context);
+        return runContext(sender, context, feedback);
+    }
+
+    private boolean isSatisfiedBy(ParsePlan plan, Map<String, Object> values) {
+        for (int i = 0; i < plan.getRequired(); i++) {
+            if (!values.containsKey(plan.getName(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void enqueueBatch(CommandInvocation invocation) {
+        synchronized (this) {
+            if (pendingBatch != null) {
+                pendingBatch.add(invocation);
+                return;
+            }
+            pendingBatch = new ArrayList<>();
+            pendingBatch.add(invocation);
+        }
+        manager.getPlugin().getServer().getScheduler().runTaskLater(manager.getPlugin(), this::flushBatch, batchWindowTicks);
+    }
+
+    private void flushBatch() {
+        List<CommandInvocation> batch;
+        synchronized (this) {
+            batch = pendingBatch;
+            pendingBatch = null;
+        }
+        if (batch == null || batch.isEmpty()) {
+            return;
+        }
+        logger.info("Executing batch of " + batch.size() + " invocations for command: " + name);
+        long cpuStart = CpuQuotaTracker.currentThreadCpuTime();
+        try {
+            batchExecutor.accept(batch);
+        } catch (LazyArgumentException e) {
+            logger.warning("Failed to parse arguments for batched " + name + ": " + e.getMessage());
+        } finally {
+            if (cpuGroup != null) {
+                chargeBatch(batch, CpuQuotaTracker.currentThreadCpuTime() - cpuStart);
+            }
+        }
+    }
+
+    /**
+     * Splits the CPU time of one batch evenly over its invocations and charges each player their share.
+     */
+    private void chargeBatch(List<CommandInvocation> batch, long cpu) {
+        CpuQuotaTracker quotas = manager.getCpuQuotas();
+        CpuQuotaTracker.Group group = quotas.getGroup(cpuGroup);
+        long share = cpu / batch.size();
+        for (CommandInvocation invocation : batch) {
+            if (invocation.getSender() instanceof Player) {
+                quotas.record(((Player) invocation.getSender()).getUniqueId(), group, share);
+            }
+        }
+    }
+
+    private CommandOutcome runExecutor(CommandSender sender, CommandContext context, String signature, BiConsumer<CommandSender, CommandContext> target,
+                                   Consumer<String> feedback) throws ArgumentParseException {
+        if (resultCache == null) {
+            return runUncached(sender, context, target, feedback);
+        }
+        String key;
+        try {
+            // The key covers every argument, so lazy ones are resolved here
+            key = ResultCache.keyOf(cacheScope.apply(sender), signature, context);
+        } catch (LazyArgumentException e) {
+            throw e.getCause();
+        }
+        String[] cached = resultCache.get(key);
+        if (cached != null) {
+            ResultCache.replay(sender, cached);
+            return CommandOutcome.SUCCESS;
+        }
+        CompletableFuture<String[]> pending = resultCache.claim(key);
+        if (pending != null) {
+            // Another dispatch is already computing this result; reuse its output once it is done, or run
+            // this dispatch itself if that one fails or produces nothing worth caching
+            pending.whenComplete((messages, error) -> {
+                if (messages != null) {
+                    ResultCache.replay(sender, messages);
+                } else {
+                    runDetached(sender, context, target, feedback);
+                }
+            });
+            return CommandOutcome.DEFERRED;
+        }
+
+        List<String> recorded = new ArrayList<>();
+        boolean cachedResult = false;
+        try {
+            context.setReplyTarget(message -> {
+                recorded.add(message);
+                sender.sendMessage(message);
+            });
+            CommandOutcome outcome = runUncached(sender, context, target, feedback);
+            if (outcome == CommandOutcome.SUCCESS && !recorded.isEmpty()) {
+                resultCache.complete(key, recorded.toArray(new String[0]));
+                cachedResult = true;
+            } else if (outcome == CommandOutcome.SUCCESS && !warnedEmptyResult) {
+                warnedEmptyResult = true;
+                logger.warning("Cached command " + name + " sent no replies through CommandContext#reply; its results are not cached");
+            }
+            return outcome;
+        } finally {
+            if (!cachedResult) {
+                resultCache.abandon(key);
+            }
+        }
+    }
+
+    private CommandOutcome runUncached(CommandSender sender, CommandContext context, BiConsumer<CommandSender, CommandContext> target,
+                                       Consumer<String> feedback) throws ArgumentParseException {
+        if (cpuGroup == null || !(sender instanceof Player)) {
+            invoke(sender, context, target);
+            return CommandOutcome.SUCCESS;
+        }
+        CpuQuotaTracker quotas = manager.getCpuQuotas();
+        CpuQuotaTracker.Group group = quotas.getGroup(cpuGroup);
+        UUID uuid = ((Player) sender).getUniqueId();
+        long wait = quotas.getWaitMillis(uuid, group);
+        if (wait <= 0) {
+            runMeasured(sender, context, target, quotas, group, uuid);
+            return CommandOutcome.SUCCESS;
+        }
+
+        long seconds = (wait + 999) / 1000;
+        if (group.getAction() == QuotaAction.DEFER && quotas.tryDefer(uuid, group)) {
+            feedback.accept(message(sender, MessageKey.QUOTA_DEFERRED, name, seconds));
+            manager.getPlugin().getServer().getScheduler().runTaskLater(manager.getPlugin(), () -> {
+                quotas.releaseDeferral(uuid, group);
+                if (((Player) sender).isOnline()) {
+                    try {
+                        runMeasured(sender, context, target, quotas, group, uuid);
+                    } catch (ArgumentParseException e) {
+                        feedback.accept(message(sender, MessageKey.PARSE_ERROR, e.getMessage()));
+                    }
+                }
+            }, Math.max(1L, (wait + 49) / 50));
+            return CommandOutcome.DEFERRED;
+        }
+        feedback.accept(message(sender, MessageKey.QUOTA_EXCEEDED, seconds));
+        return CommandOutcome.THROTTLED;
+    }
+
+    private void runMeasured(CommandSender sender, CommandContext context, BiConsumer<CommandSender, CommandContext> target,
+                             CpuQuotaTracker quotas, CpuQuotaTracker.Group group, UUID uuid) throws ArgumentParseException {
+        long wallStart = System.nanoTime();
+        long cpuStart = CpuQuotaTracker.currentThreadCpuTime();
+        try {
+            invoke(sender, context, target);
+        } finally {
+            long cpu = CpuQuotaTracker.currentThreadCpuTime() - cpuStart;
+            quotas.record(uuid, group, cpu);
+            logger.info("Executor for " + name + " used " + (cpu / 1000) + "us CPU, " + ((System.nanoTime() - wallStart) / 1000) + "us wall for " + sender.getName());
+        }
+    }
+
+    /**
+     * Runs an executor, turning a failed lazy argument back into the checked parse error.
+     */
+    private void invoke(CommandSender sender, CommandContext context, BiConsumer<CommandSender, CommandContext> target) throws ArgumentParseException {
+        if (!context.hasReplyTarget()) {
+            context.setReplyTarget(sender::sendMessage);
+        }
+        try {
+            target.accept(sender, context);
+        } catch (LazyArgumentException e) {
+            logger.warning("Failed to parse arguments for " + name + ": " + e.getMessage());
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Runs an executor outside of a dispatch, where parse errors can only be reported to the sender.
+     */
+    private void runDetached(CommandSender sender, CommandContext context, BiConsumer<CommandSender, CommandContext> target,
+                             Consumer<String> feedback) {
+        try {
+            runUncached(sender, context, target, feedback);
+        } catch (ArgumentParseException e) {
+            feedback.accept(message(sender, MessageKey.PARSE_ERROR, e.getMessage()));
+        }
+    }
+
+    private String message(CommandSender sender, MessageKey key, Object... args) {
+        return manager.getMessages().format(sender, key, args);
+    }
+
+    private static CommandContext newContext(Map<String, Object> flagValues) {
+        CommandContext context = new CommandContext();
+        if (flagValues != null) {
+            for (Map.Entry<String, Object> entry : flagValues.entrySet()) {
+                context.addArgument(entry.getKey(), entry.getValue());
+            }
+        }
+        return context;
+    }
+
+    private CommandOutcome executeOverload(CommandSender sender, String[] args, Map<String, Object> flagValues, CompiledOverloads compiled,
+                                           Consumer<String> feedback) throws ArgumentParseException {
+        int[] candidates = compiled.tree.select(args, 0);
+        if (candidates.length == 0) {
+            // No shape fits; parse the signatures of this length anyway so the sender sees the real error
+            candidates = compiled.tree.acceptingCount(args.length);
+        }
+        if (candidates.length == 0) {
+            feedback.accept(message(sender, MessageKey.USAGE, name, getUsage()));
+            logger.warning("No overload of " + name + " accepts " + args.length + " arguments");
+            return CommandOutcome.USAGE;
+        }
+
+        // Usually a single candidate; several only remain when token shapes cannot tell them apart
+        ArgumentParseException failure = null;
+        for (int candidate : candidates) {
+            CommandContext context = newContext(flagValues);
+            try {
+                if (lazyArguments && candidates.length == 1) {
+                    compiled.plans[candidate].parseLazily(sender, args, 0, context);
+                } else {
+                    compiled.plans[candidate].parse(sender, args, 0, context);
+                }
+            } catch (ArgumentParseException e) {
+                if (failure == null) {
+                    failure = e;
+                }
+                continue;
+            }
+            logger.info("Executing overload " + compiled.plans[candidate].getUsage() + " with context: " + context.toString());
+            return runExecutor(sender, context, compiled.plans[candidate].getUsage(), compiled.executors.get(candidate), feedback);
+        }
+        logger.warning("Failed to parse arguments for " + name + ": " + failure.getMessage());
+        throw failure;
     }
 
     /**
@@ -319,52 +1182,90 @@ public class AuroraCommand {
             return new ArrayList<>();
         }
 
-        // Suggest subcommands for the first argument
+        // A typed subcommand name hands completion over before this command's options are considered
+        if (args.length > 1) {
+            AuroraCommand subCommand = getSubCommand(args[0]);
+            if (subCommand != null) {
+                return subCommand.hasPermission(sender)
+                        ? subCommand.getTabCompletions(sender, Arrays.copyOfRange(args, 1, args.length))
+                        : new ArrayList<>();
+            }
+        }
+
+        // Suggest options and option values, then complete positionally without them
+        FlagSet flagSet = getFlagSet();
+        if (flagSet != null && (args.length > 1 || !args[0].isEmpty())) {
+            List<String> flagCompletions = flagSet.getCompletions(sender, args);
+            if (flagCompletions != null) {
+                return flagCompletions;
+            }
+            return getPositionalCompletions(sender, flagSet.stripForCompletion(args));
+        }
+        return getPositionalCompletions(sender, args);
+    }
+
+    private List<String> getPositionalCompletions(CommandSender sender, String[] args) {
+        List<String> completions = new ArrayList<>();
         if (args.length == 1) {
-            List<String> completions = new ArrayList<>();
             for (AuroraCommand subCommand : subCommands) {
                 if (subCommand.hasPermission(sender)) {
                     completions.add(subCommand.getName());
                     completions.addAll(subCommand.getAliases());
                 }
             }
-            for (ArgumentEntry entry : arguments) {
-                completions.addAll(entry.getType().getCompletions(sender));
-            }
-            return completions.stream()
-                    .filter(completion -> completion.toLowerCase().startsWith(args[0].toLowerCase()))
-                    .collect(Collectors.toList());
-        }
-
-        // Suggest argument completions
-        if (args.length <= arguments.size()) {
-            ArgumentType<?> type = arguments.get(args.length - 1).getType();
-            return type.getCompletions(sender).stream()
-                    .filter(completion -> completion.toLowerCase().startsWith(args[args.length - 1].toLowerCase()))
-                    .collect(Collectors.toList());
         }
 
-        // Suggest subcommand completions
-        for (AuroraCommand subCommand : subCommands) {
-            if (subCommand.getName().equalsIgnoreCase(args[0]) || subCommand.getAliases().stream().anyMatch(alias -> alias.equalsIgnoreCase(args[0]))) {
-                if (subCommand.hasPermission(sender)) {
-                    return subCommand.getTabCompletions(sender, Arrays.copyOfRange(args, 1, args.length));
-                }
+        // Suggest values of the types compiled for this position, across all signatures
+        int index = args.length - 1;
+        List<ArgumentType<?>> types = new ArrayList<>();
+        CompiledOverloads compiled = getCompiledOverloads();
+        ParsePlan[] plans = compiled != null ? compiled.plans : new ParsePlan[]{getPlan()};
+        for (ParsePlan signature : plans) {
+            if (index < signature.size() && !types.contains(signature.getType(index))) {
+                types.add(signature.getType(index));
             }
         }
+        for (ArgumentType<?> type : types) {
+            completions.addAll(type.getCompletions(sender));
+        }
 
-        return new ArrayList<>();
+        String prefix = args[index].toLowerCase();
+        return completions.stream()
+                .filter(completion -> completion.toLowerCase().startsWith(prefix))
+                .distinct()
+                .collect(Collectors.toList());
     }
 
     /**
-     * Gets the usage string for the command.
+     * Gets the usage string for the command, built once and cached until the command changes.
      *
      * @return The usage string.
      */
     public String getUsage() {
+        String cached = usage;
+        if (cached == null) {
+            cached = buildUsage();
+            usage = cached;
+        }
+        return cached;
+    }
+
+    private String buildUsage() {
         StringBuilder usage = new StringBuilder();
-        for (ArgumentEntry entry : arguments) {
-            usage.append("<").append(entry.getName()).append("> ");
+        CompiledOverloads compiled = getCompiledOverloads();
+        if (compiled != null) {
+            for (ParsePlan signature : compiled.plans) {
+                if (usage.length() > 0) {
+                    usage.append(" | ");
+                }
+                usage.append(signature.getUsage());
+            }
+        } else {
+            usage.append(getPlan().getUsage());
+        }
+        FlagSet flagSet = getFlagSet();
+        if (flagSet != null) {
+            usage.insert(0, flagSet.getUsage() + " ");
         }
         for (AuroraCommand subCommand : subCommands) {
             if (usage.length() > 0) {
@@ -381,12 +1282,31 @@ public class AuroraCommand {
      * @return A string of subcommand names.
      */
     public String getSubCommandNames() {
-        return subCommands.stream()
-                .map(AuroraCommand::getName)
-                .collect(Collectors.joining(", "));
+        String cached = subCommandNames;
+        if (cached == null) {
+            cached = subCommands.stream()
+                    .map(AuroraCommand::getName)
+                    .collect(Collectors.joining(", "));
+            subCommandNames = cached;
+        }
+        return cached;
     }
 
     // Getters
+    /**
+     * Checks whether the sender is of the type this command accepts.
+     *
+     * @param sender The sender to check.
+     * @return True if the sender may run this command.
+     */
+    public boolean acceptsSender(CommandSender sender) {
+        return senderType.isInstance(sender);
+    }
+
+    public Class<? extends CommandSender> getSenderType() {
+        return senderType;
+    }
+
     public String getName() {
         return name;
     }
@@ -394,4 +1314,19 @@ public class AuroraCommand {
     public List<String> getAliases() {
         return new ArrayList<>(aliases);
     }
+
+    /**
+     * Finds a direct subcommand by name or alias.
+     *
+     * @param name The subcommand name or alias.
+     * @return The subcommand, or null if none matches.
+     */
+    public AuroraCommand getSubCommand(String name) {
+        for (AuroraCommand subCommand : subCommands) {
+            if (subCommand.getName().equalsIgnoreCase(name) || subCommand.getAliases().contains(name.toLowerCase())) {
+                return subCommand;
+            }
+        }
+        return null;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,72 @@
+package dev.aurora.Command;
+
+import java.util.Arrays;
+
+/**
+ * A command resolved down to a subcommand, e.g. {@code /eco give}, obtained from
+ * {@link dev.aurora.Manager.CommandManager#resolve(String...)}. Resolve once and keep it
+ * to dispatch without any lookup.
+ */
+public final class CommandPath {
+    private final AuroraCommand[] nodes;
+
+    public CommandPath(AuroraCommand[] nodes) {
+        if (nodes.length == 0) {
+            throw new IllegalArgumentException("A command path needs at least the root command");
+        }
+        this.nodes = nodes.clone();
+    }
+
+    public int size() {
+        return nodes.length;
+    }
+
+    public AuroraCommand get(int index) {
+        return nodes[index];
+    }
+
+    public AuroraCommand getRoot() {
+        return nodes[0];
+    }
+
+    public AuroraCommand getLeaf() {
+        return nodes[nodes.length - 1];
+    }
+
+    /**
+     * Prefixes arguments with the subcommand names of this path, giving the arguments the root command would see.
+     *
+     * @param args The arguments of the leaf.
+     * @return The arguments of the root.
+     */
+    public String[] toRootArgs(String[] args) {
+        String[] full = new String[nodes.length - 1 + args.length];
+        for (int i = 1; i < nodes.length; i++) {
+            full[i - 1] = nodes[i].getName();
+        }
+        System.arraycopy(args, 0, full, nodes.length - 1, args.length);
+        return full;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (AuroraCommand node : nodes) {
+            if (builder.length() > 0) {
+                builder.append(' ');
+            }
+            builder.append(node.getName());
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof CommandPath && Arrays.equals(nodes, ((CommandPath) o).nodes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(nodes);
+    }
+}
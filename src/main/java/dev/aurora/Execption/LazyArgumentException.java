@@ -0,0 +1,17 @@
+package dev.aurora.Execption;
+
+/**
+ * Thrown from {@link dev.aurora.struct.CommandContext#getArgument(String)} when a lazily resolved
+ * argument fails to parse on first access. Unchecked so executors do not have to declare it;
+ * the framework reports it to the sender like any other parse error.
+ */
+public class LazyArgumentException extends RuntimeException {
+    public LazyArgumentException(ArgumentParseException cause) {
+        super(cause.getMessage(), cause);
+    }
+
+    @Override
+    public synchronized ArgumentParseException getCause() {
+        return (ArgumentParseException) super.getCause();
+    }
+}
@@ -1,10 +1,20 @@
 package dev.aurora.Manager;
 
+import dev.aurora.Audit.AuditLogWriter;
 import dev.aurora.Command.AuroraCommand;
+import dev.aurora.Command.CommandPath;
 import dev.aurora.Execption.ArgumentParseException;
+import dev.aurora.Message.MessageKey;
+import dev.aurora.Message.MessageService;
 import dev.aurora.struct.ArgumentType;
 import dev.aurora.struct.ArgumentTypeRegistry;
+import dev.aurora.struct.CommandOutcome;
+import dev.aurora.struct.CommandSpec;
 import dev.aurora.struct.CommandTabCompleter;
+import dev.aurora.struct.DispatchResult;
+import dev.aurora.struct.ParsedArguments;
+import dev.aurora.struct.QuotaAction;
+import dev.aurora.struct.SlowCommandReport;
 import dev.aurora.struct.Types.Boolean.BooleanArgumentType;
 import dev.aurora.struct.Types.Double.DoubleArgumentType;
 import dev.aurora.struct.Types.Entity.EntityArgumentType;
@@ -17,24 +27,43 @@ import dev.aurora.struct.Types.Player.AdminPlayerArgumentType;
 import dev.aurora.struct.Types.Player.OnlinePlayerArgumentType;
 import dev.aurora.struct.Types.Strings.StringArgumentType;
 import org.bukkit.command.*;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.io.File;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 public class CommandManager implements CommandExecutor {
     private final JavaPlugin plugin;
     private final Map<String, AuroraCommand> commands;
+    private final Map<String, AuroraCommand> specCommands;
     private final ArgumentTypeRegistry argumentRegistry;
+    private final TickBudgetScheduler taskScheduler;
+    private final CpuQuotaTracker cpuQuotas;
+    private CommandWatchdog watchdog;
+    private AuditLogWriter auditLog;
+    private ParseCache parseCache;
+    private final MessageService messages;
 
     public CommandManager(JavaPlugin plugin) {
         this.plugin = plugin;
         this.commands = new HashMap<>();
+        this.specCommands = new LinkedHashMap<>();
         this.argumentRegistry = new ArgumentTypeRegistry();
+        this.messages = new MessageService();
+        this.taskScheduler = new TickBudgetScheduler(plugin, messages);
+        this.cpuQuotas = new CpuQuotaTracker();
         registerDefaultArgumentTypes();
+        plugin.getServer().getPluginManager().registerEvents(new PlayerSessionListener(taskScheduler, cpuQuotas), plugin);
         plugin.getLogger().info("CommandManager initialized for plugin: " + plugin.getName());
     }
 
@@ -48,9 +77,12 @@ public class CommandManager implements CommandExecutor {
         argumentRegistry.registerType("double", new DoubleArgumentType());
         argumentRegistry.registerType("admins", new AdminPlayerArgumentType());
         argumentRegistry.registerType("entityType", new EntityArgumentType());
+        argumentRegistry.registerType("item", new ItemStackArgumentType());
+        argumentRegistry.registerType("itemData", new ItemDataArgumentType());
     }
 
     public void registerCommand(AuroraCommand command) {
+        clearParseCache();
         commands.put(command.getName().toLowerCase(), command);
         for (String alias : command.getAliases()) {
             commands.put(alias.toLowerCase(), command);
@@ -58,7 +90,7 @@ public class CommandManager implements CommandExecutor {
         PluginCommand pluginCommand = plugin.getCommand(command.getName());
         if (pluginCommand != null) {
             pluginCommand.setExecutor(this);
-            pluginCommand.setTabCompleter(new CommandTabCompleter(commands, argumentRegistry));
+            pluginCommand.setTabCompleter(new CommandTabCompleter(commands));
             plugin.getLogger().info("Successfully registered command: " + command.getName());
         } else {
             plugin.getLogger().warning("PluginCommand null for: " + command.getName() + ". Attempting manual registration.");
@@ -68,7 +100,7 @@ public class CommandManager implements CommandExecutor {
                 pluginCommand = constructor.newInstance(command.getName(), plugin);
                 pluginCommand.setAliases(command.getAliases());
                 pluginCommand.setExecutor(this);
-                pluginCommand.setTabCompleter(new CommandTabCompleter(commands, argumentRegistry));
+                pluginCommand.setTabCompleter(new CommandTabCompleter(commands));
                 Field commandMapField = plugin.getServer().getPluginManager().getClass().getDeclaredField("commandMap");
                 commandMapField.setAccessible(true);
                 SimpleCommandMap commandMap = (SimpleCommandMap) commandMapField.get(plugin.getServer().getPluginManager());
@@ -81,6 +113,78 @@ public class CommandManager implements CommandExecutor {
         }
     }
 
+    /**
+     * Creates a command from a spec such as {@code tp <target:player> <dest:location> [silent:boolean]}.
+     * Plain tokens after the name become subcommands, so {@code eco set <target:player> <amount:double>}
+     * and {@code eco give ...} share one {@code eco} root. Roots are registered by {@link #registerSpecCommands()}.
+     *
+     * @param spec The command spec.
+     * @return The command node the spec's arguments were added to, ready for an execution.
+     * @throws IllegalArgumentException If the spec is malformed or names an unknown type.
+     */
+    public AuroraCommand createCommand(String spec) {
+        CommandSpec parsed = CommandSpec.parse(spec, argumentRegistry);
+        AuroraCommand node = specCommands.computeIfAbsent(parsed.getName(), name -> new AuroraCommand(name, this));
+        for (String part : parsed.getPath()) {
+            AuroraCommand child = node.getSubCommand(part);
+            if (child == null) {
+                child = new AuroraCommand(part, this);
+                node.addSubCommand(child);
+            }
+            node = child;
+        }
+        return node.applySpec(parsed);
+    }
+
+    /**
+     * Creates commands from a configuration section. Each key is an id mapping either directly to a
+     * spec string or to a section with {@code spec}, and optionally {@code permission}, {@code cooldown}
+     * (seconds) and {@code aliases}.
+     *
+     * @param section The configuration section.
+     * @return The created command nodes by id, so executions can be attached before registering.
+     * @throws IllegalArgumentException If an entry has no spec or an invalid one.
+     */
+    public Map<String, AuroraCommand> loadCommands(ConfigurationSection section) {
+        Map<String, AuroraCommand> loaded = new LinkedHashMap<>();
+        for (String id : section.getKeys(false)) {
+            if (section.isString(id)) {
+                loaded.put(id, createCommand(section.getString(id)));
+                continue;
+            }
+            ConfigurationSection entry = section.getConfigurationSection(id);
+            String spec = entry != null ? entry.getString("spec") : null;
+            if (spec == null) {
+                throw new IllegalArgumentException("Command '" + id + "' has no spec");
+            }
+            AuroraCommand command = createCommand(spec);
+            if (entry.contains("permission")) {
+                command.addPermission(entry.getString("permission"));
+            }
+            if (entry.contains("cooldown")) {
+                command.addCooldown(entry.getLong("cooldown"));
+            }
+            for (String alias : entry.getStringList("aliases")) {
+                command.addAlias(alias);
+            }
+            loaded.put(id, command);
+        }
+        plugin.getLogger().info("Loaded " + loaded.size() + " command specs");
+        return loaded;
+    }
+
+    /**
+     * Registers every root command created through {@link #createCommand(String)} or
+     * {@link #loadCommands(ConfigurationSection)} that is not registered yet.
+     */
+    public void registerSpecCommands() {
+        for (AuroraCommand command : specCommands.values()) {
+            if (commands.get(command.getName().toLowerCase()) != command) {
+                command.register();
+            }
+        }
+    }
+
     @Override
     public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
         plugin.getLogger().info("Processing command: " + command.getName() + " with label: " + label);
@@ -90,28 +194,405 @@ public class CommandManager implements CommandExecutor {
             return false;
         }
 
-        if (!auroraCommand.hasPermission(sender)) {
-            sender.sendMessage("§cYou don't have permission!");
-            return true;
+        if (parseCache != null) {
+            dispatchCached(sender, auroraCommand, args);
+        } else {
+            dispatch(sender, new CommandPath(new AuroraCommand[]{auroraCommand}), args, sender::sendMessage,
+                    (leaf, feedback) -> leaf.execute(sender, args, feedback));
         }
+        return true;
+    }
 
-        if (auroraCommand.isOnCooldown(sender)) {
-            long remaining = auroraCommand.getCooldownRemaining(sender);
-            sender.sendMessage("§cCommand on cooldown! Wait " + (remaining / 1000) + " seconds.");
-            return true;
+    /**
+     * Dispatches a typed command line through the parse cache. On a hit the subcommand lookup and the parsing
+     * of stable arguments are skipped; permission, cooldown and sender type are still checked on every node.
+     */
+    private void dispatchCached(CommandSender sender, AuroraCommand root, String[] args) {
+        String key = ParseCache.keyOf(root.getName(), args);
+        ParseCache.Entry cached = parseCache.get(key);
+        CommandPath path;
+        String[] leafArgs;
+        if (cached != null) {
+            path = cached.getPath();
+            leafArgs = cached.getArguments().getArgs();
+        } else {
+            List<AuroraCommand> nodes = new ArrayList<>();
+            nodes.add(root);
+            int depth = 0;
+            AuroraCommand subCommand;
+            while (depth < args.length && (subCommand = nodes.get(depth).getSubCommand(args[depth])) != null) {
+                nodes.add(subCommand);
+                depth++;
+            }
+            path = new CommandPath(nodes.toArray(new AuroraCommand[0]));
+            leafArgs = depth == 0 ? args : Arrays.copyOfRange(args, depth, args.length);
         }
 
+        dispatch(sender, path, leafArgs, sender::sendMessage, (leaf, feedback) -> {
+            ParsedArguments parsed = cached != null ? leaf.resolveArguments(sender, cached.getArguments()) : null;
+            if (parsed == null) {
+                parsed = leaf.parseArguments(sender, leafArgs);
+                if (parsed == null) {
+                    return leaf.execute(sender, leafArgs, feedback);
+                }
+                parseCache.put(key, path, parsed);
+            }
+            return leaf.executeParsed(sender, parsed, feedback);
+        });
+    }
+
+    /**
+     * Resolves a command and subcommand names, e.g. {@code resolve("eco", "give")}, to a path that can be
+     * dispatched directly. Resolve once and keep the path.
+     *
+     * @param path The command name or alias followed by subcommand names or aliases.
+     * @return The resolved path, or null if any part of it does not exist.
+     */
+    public CommandPath resolve(String... path) {
+        if (path.length == 0) {
+            return null;
+        }
+        AuroraCommand[] nodes = new AuroraCommand[path.length];
+        nodes[0] = commands.get(path[0].toLowerCase());
+        for (int i = 1; i < path.length && nodes[i - 1] != null; i++) {
+            nodes[i] = nodes[i - 1].getSubCommand(path[i]);
+        }
+        return nodes[path.length - 1] != null ? new CommandPath(nodes) : null;
+    }
+
+    /**
+     * Dispatches a resolved command in-process, without the Bukkit command map. Permission, cooldown, sender
+     * type, audit and watchdog apply as for a typed command, but the framework's messages are returned in
+     * the result rather than sent to the sender. Messages of the executor itself still reach the sender.
+     * A {@link CommandOutcome#DEFERRED} command runs after this returns; messages produced then go to the sender.
+     *
+     * @param sender The sender to execute as.
+     * @param path   The resolved command.
+     * @param args   The already split arguments of the last command in the path.
+     * @return The outcome and the framework's messages.
+     */
+    public DispatchResult dispatch(CommandSender sender, CommandPath path, String... args) {
+        FeedbackCollector collector = new FeedbackCollector(sender);
+        CommandOutcome outcome = dispatch(sender, path, args, collector,
+                (leaf, feedback) -> leaf.execute(sender, args, feedback));
+        return collector.finish(outcome);
+    }
+
+    /**
+     * Dispatches a resolved command with already typed arguments, skipping argument parsing entirely.
+     * See {@link #dispatch(CommandSender, CommandPath, String...)} and {@link AuroraCommand#executeTyped}.
+     * Audit records and watchdog reports show the values as {@code name=value} arguments.
+     *
+     * @param sender The sender to execute as.
+     * @param path   The resolved command.
+     * @param values The argument values by name.
+     * @return The outcome and the framework's messages.
+     */
+    public DispatchResult dispatch(CommandSender sender, CommandPath path, Map<String, Object> values) {
+        FeedbackCollector collector = new FeedbackCollector(sender);
+        CommandOutcome outcome = dispatch(sender, path, path.getLeaf().describeTyped(values), collector,
+                (leaf, feedback) -> leaf.executeTyped(sender, values, feedback));
+        return collector.finish(outcome);
+    }
+
+    /**
+     * Collects the framework's messages of a direct dispatch until it returns, then forwards later ones to the sender.
+     */
+    private static class FeedbackCollector implements Consumer<String> {
+        private final CommandSender sender;
+        private final List<String> messages;
+        private boolean finished;
+
+        FeedbackCollector(CommandSender sender) {
+            this.sender = sender;
+            this.messages = new ArrayList<>();
+        }
+
+        @Override
+        public synchronized void accept(String message) {
+            if (finished) {
+                sender.sendMessage(message);
+            } else {
+                messages.add(message);
+            }
+        }
+
+        synchronized DispatchResult finish(CommandOutcome outcome) {
+            finished = true;
+            return new DispatchResult(outcome, messages);
+        }
+    }
+
+    /**
+     * Runs the last command of a dispatched path once every node on it has been checked.
+     */
+    private interface LeafExecution {
+        CommandOutcome execute(AuroraCommand leaf, Consumer<String> feedback) throws ArgumentParseException;
+    }
+
+    private CommandOutcome dispatch(CommandSender sender, CommandPath path, String[] args, Consumer<String> feedback, LeafExecution execution) {
+        AuroraCommand leaf = path.getLeaf();
+        for (int i = 0; i < path.size(); i++) {
+            AuroraCommand node = path.get(i);
+            if (!node.hasPermission(sender)) {
+                feedback.accept(messages.format(sender, MessageKey.NO_PERMISSION));
+                audit(sender, path, args, CommandOutcome.DENIED);
+                return CommandOutcome.DENIED;
+            }
+            if (node.isOnCooldown(sender)) {
+                long remaining = node.getCooldownRemaining(sender);
+                feedback.accept(messages.format(sender, i == 0 ? MessageKey.COOLDOWN : MessageKey.SUBCOMMAND_COOLDOWN, remaining / 1000));
+                audit(sender, path, args, CommandOutcome.COOLDOWN);
+                return CommandOutcome.COOLDOWN;
+            }
+            if (node != leaf && !node.acceptsSender(sender)) {
+                feedback.accept(messages.format(sender, MessageKey.INVALID_SENDER, node.getSenderType().getSimpleName()));
+                audit(sender, path, args, CommandOutcome.INVALID_SENDER);
+                return CommandOutcome.INVALID_SENDER;
+            }
+        }
+
+        // The executor may replace or shut down the watchdog, so end the dispatch on the one that began it
+        CommandWatchdog activeWatchdog = watchdog;
+        CommandWatchdog.Dispatch dispatch = activeWatchdog != null ? activeWatchdog.begin(path.getRoot().getName(), sender.getName(), rootArgs(path, args)) : null;
+        CommandOutcome outcome = CommandOutcome.FAILED;
         try {
-            auroraCommand.execute(sender, args);
+            outcome = execution.execute(leaf, feedback);
         } catch (ArgumentParseException e) {
-            sender.sendMessage("§c" + e.getMessage());
+            outcome = CommandOutcome.PARSE_ERROR;
+            feedback.accept(messages.format(sender, MessageKey.PARSE_ERROR, e.getMessage()));
+        } finally {
+            if (dispatch != null) {
+                activeWatchdog.end(dispatch);
+            }
+            audit(sender, path, args, outcome);
         }
 
-        auroraCommand.applyCooldown(sender);
-        return true;
+        for (int i = path.size() - 1; i >= 0; i--) {
+            path.get(i).applyCooldown(sender);
+        }
+        return outcome;
+    }
+
+    private static String[] rootArgs(CommandPath path, String[] args) {
+        if (args == null) {
+            args = new String[0];
+        }
+        return path.size() == 1 ? args : path.toRootArgs(args);
+    }
+
+    private void audit(CommandSender sender, CommandPath path, String[] args, CommandOutcome outcome) {
+        if (auditLog != null) {
+            auditLog.append(sender, path.getRoot().getName(), rootArgs(path, args), outcome);
+        }
+    }
+
+    /**
+     * Enables caching of typed command lines. Lines sent over and over, e.g. by command blocks or timers, then
+     * skip the subcommand lookup and the parsing of arguments whose type is stable (see
+     * {@link ArgumentType#isStable()}); other arguments, such as players and locations, are parsed on every use.
+     *
+     * @param maxEntries How many distinct lines are kept.
+     */
+    public void enableParseCache(int maxEntries) {
+        this.parseCache = new ParseCache(maxEntries);
+        plugin.getLogger().info("Enabled parse cache with " + maxEntries + " entries");
+    }
+
+    /**
+     * Drops all cached command lines. Needed after changing subcommands of a registered command.
+     */
+    public void clearParseCache() {
+        if (parseCache != null) {
+            parseCache.clear();
+        }
+    }
+
+    /**
+     * Sets the per-tick time budget shared by all running incremental (heavy) commands.
+     *
+     * @param nanos The budget in nanoseconds.
+     */
+    public void setTickBudget(long nanos) {
+        taskScheduler.setTickBudgetNanos(nanos);
+        plugin.getLogger().info("Set incremental command tick budget to " + nanos + "ns");
+    }
+
+    /**
+     * Cancels every incremental command task started by the sender.
+     *
+     * @param sender The sender whose tasks should be cancelled.
+     * @return The number of cancelled tasks.
+     */
+    public int cancelTasks(CommandSender sender) {
+        return taskScheduler.cancel(sender);
+    }
+
+    /**
+     * Sets the rolling CPU budget of a command group. Each player may spend at most the budget of executor
+     * CPU time on commands of the group within the window; see {@link AuroraCommand#addCpuQuotaGroup(String)}.
+     *
+     * @param group         The group name.
+     * @param budgetMillis  The CPU time per player per window, in milliseconds.
+     * @param windowSeconds The length of the rolling window, in seconds.
+     * @param action        Whether exhausted commands are rejected or deferred.
+     */
+    public void setCpuQuota(String group, long budgetMillis, long windowSeconds, QuotaAction action) {
+        cpuQuotas.setQuota(group, budgetMillis * 1_000_000L, windowSeconds * 1000L, action);
+        plugin.getLogger().info("Set CPU quota for group " + group + ": " + budgetMillis + "ms per " + windowSeconds + "s, action=" + action);
+    }
+
+    /**
+     * Enables the slow-command watchdog. Dispatches running longer than the threshold have the
+     * executing thread's stack sampled at the given interval until they finish.
+     *
+     * @param thresholdMillis      How long a dispatch may run before it is considered slow.
+     * @param sampleIntervalMillis How often a slow dispatch's stack is sampled.
+     */
+    public void enableWatchdog(long thresholdMillis, long sampleIntervalMillis) {
+        if (watchdog != null) {
+            watchdog.shutdown();
+        }
+        watchdog = new CommandWatchdog(plugin.getLogger(), thresholdMillis, sampleIntervalMillis);
+        plugin.getLogger().info("Enabled command watchdog: threshold=" + thresholdMillis + "ms, interval=" + sampleIntervalMillis + "ms");
+    }
+
+    /**
+     * Gets the recorded slow command reports, newest first.
+     *
+     * @return The reports, or an empty list if the watchdog is disabled.
+     */
+    public List<SlowCommandReport> getSlowCommandReports() {
+        return watchdog != null ? watchdog.getReports() : new ArrayList<>();
+    }
+
+    /**
+     * Enables the binary audit journal. Every dispatch through this manager is recorded asynchronously
+     * into rotating segment files in the given directory, readable with {@link dev.aurora.Audit.AuditLogReader}.
+     *
+     * @param directory The directory segment files are written to.
+     */
+    public void enableAuditLog(File directory) {
+        if (auditLog != null) {
+            auditLog.close();
+        }
+        auditLog = new AuditLogWriter(directory, plugin.getLogger());
+        plugin.getLogger().info("Enabled command audit log in: " + directory.getPath());
+    }
+
+    /**
+     * Stops all background work owned by this manager. Should be called from the plugin's onDisable.
+     */
+    public void shutdown() {
+        taskScheduler.cancelAll();
+        if (watchdog != null) {
+            watchdog.shutdown();
+            watchdog = null;
+        }
+        if (auditLog != null) {
+            auditLog.close();
+            auditLog = null;
+        }
+    }
+
+    /**
+     * Registers the console-only script runner {@code /aurora run <file> [--restart]}, which executes a file of
+     * Aurora command lines across ticks within the incremental tick budget, and {@code /aurora stop} to pause it.
+     * Relative paths are resolved against the plugin's data folder. A stopped or interrupted run resumes from
+     * its checkpoint on the next {@code run}; after a crash up to a few hundred lines may run again.
+     */
+    public void enableScriptRunner() {
+        enableScriptRunner("aurora");
+    }
+
+    /**
+     * Registers the script runner under another command name, for plugins that shade Aurora side by side.
+     *
+     * @param commandName The root command name.
+     */
+    public void enableScriptRunner(String commandName) {
+        AuroraCommand run = new AuroraCommand("run", this)
+                .addArgument("file", argumentRegistry.getType("string"))
+                .addSwitch("restart", 'r')
+                .addIncrementalExecution(ConsoleCommandSender.class, (sender, context) -> {
+                    String name = context.getArgument("file");
+                    File file = new File(name);
+                    if (!file.isAbsolute()) {
+                        file = new File(plugin.getDataFolder(), name);
+                    }
+                    if (!file.isFile()) {
+                        sender.sendMessage(messages.format(sender, MessageKey.SCRIPT_NOT_FOUND, name));
+                        return null;
+                    }
+                    return new ScriptRunTask(this, sender, file, context.<Boolean>getArgument("restart"));
+                });
+        AuroraCommand stop = new AuroraCommand("stop", this)
+                .addExecution(ConsoleCommandSender.class, (sender, context) -> taskScheduler.cancel(sender, ScriptRunTask.class));
+        new AuroraCommand(commandName, this)
+                .addSubCommand(run)
+                .addSubCommand(stop)
+                .register();
+        plugin.getLogger().info("Enabled script runner as /" + commandName + " run <file>");
+    }
+
+    /**
+     * Registers {@code /cancel [command]}, with which any sender cancels their own running incremental commands,
+     * or only the one of the given command.
+     */
+    public void enableTaskCancelCommand() {
+        enableTaskCancelCommand("cancel");
+    }
+
+    /**
+     * Registers the task cancel command under another name, e.g. when another plugin already owns {@code /cancel}.
+     *
+     * @param commandName The command name.
+     */
+    public void enableTaskCancelCommand(String commandName) {
+        new AuroraCommand(commandName, this)
+                .addOptionalArgument("command", argumentRegistry.getType("string"))
+                .addExecution(CommandSender.class, (sender, context) -> {
+                    String command = context.getArgument("command");
+                    int cancelled = command != null ? taskScheduler.cancel(sender, command) : taskScheduler.cancel(sender);
+                    sender.sendMessage(cancelled > 0
+                            ? messages.format(sender, MessageKey.TASKS_CANCELLED, cancelled)
+                            : messages.format(sender, MessageKey.NO_RUNNING_TASKS));
+                })
+                .register();
+        plugin.getLogger().info("Enabled task cancellation as /" + commandName);
+    }
+
+    /**
+     * Loads the framework's message templates, e.g. from a {@code messages} section of the plugin config.
+     * See {@link MessageService#load(ConfigurationSection)} for the layout.
+     *
+     * @param section The configuration section holding the messages.
+     */
+    public void loadMessages(ConfigurationSection section) {
+        messages.load(section);
+        plugin.getLogger().info("Loaded message templates from " + section.getCurrentPath());
+    }
+
+    /**
+     * Gets the templates of the framework's own messages, e.g. to set a locale resolver.
+     */
+    public MessageService getMessages() {
+        return messages;
     }
 
     public ArgumentTypeRegistry getArgumentRegistry() {
         return argumentRegistry;
     }
+
+    public TickBudgetScheduler getTaskScheduler() {
+        return taskScheduler;
+    }
+
+    public CpuQuotaTracker getCpuQuotas() {
+        return cpuQuotas;
+    }
+
+    public JavaPlugin getPlugin() {
+        return plugin;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,159 @@
+package dev.aurora.Manager;
+
+import dev.aurora.struct.SlowCommandReport;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Watches command dispatches and samples the stack of the executing thread from a background
+ * thread once a dispatch runs longer than the configured threshold. Slow dispatches are kept as
+ * {@link SlowCommandReport}s so the offending executor can be found without attaching a profiler.
+ * Dispatches nested on the same thread form a stack; every slow level is sampled and reported.
+ */
+public class CommandWatchdog {
+    private static final int MAX_REPORTS = 50;
+    private static final int MAX_FRAMES = 12;
+
+    private final Logger logger;
+    private final long thresholdNanos;
+    private final ScheduledExecutorService sampler;
+    private final Map<Thread, Dispatch> active;
+    private final ConcurrentLinkedDeque<SlowCommandReport> reports;
+
+    /**
+     * A single in-flight dispatch being watched.
+     */
+    public static class Dispatch {
+        private final Thread thread;
+        private final String command;
+        private final String sender;
+        private final String[] args;
+        private final long startNanos;
+        private final Dispatch parent;
+        private final Map<String, Integer> samples;
+        private int sampleCount;
+
+        Dispatch(Thread thread, String command, String sender, String[] args, Dispatch parent) {
+            this.thread = thread;
+            this.command = command;
+            this.sender = sender;
+            this.args = args != null ? args.clone() : new String[0];
+            this.parent = parent;
+            this.samples = new HashMap<>();
+            this.startNanos = System.nanoTime();
+        }
+    }
+
+    public CommandWatchdog(Logger logger, long thresholdMillis, long sampleIntervalMillis) {
+        this.logger = logger;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.active = new ConcurrentHashMap<>();
+        this.reports = new ConcurrentLinkedDeque<>();
+        this.sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Aurora-Command-Watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sampler.scheduleAtFixedRate(this::sample, sampleIntervalMillis, sampleIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Marks the start of a dispatch on the current thread.
+     *
+     * @return A handle that must be passed to {@link #end(Dispatch)}.
+     */
+    public Dispatch begin(String command, String sender, String[] args) {
+        Thread thread = Thread.currentThread();
+        Dispatch dispatch = new Dispatch(thread, command, sender, args, active.get(thread));
+        active.put(thread, dispatch);
+        return dispatch;
+    }
+
+    /**
+     * Marks the end of a dispatch and records a report if it was slow.
+     *
+     * @param dispatch The handle returned by {@link #begin(String, String, String[])}.
+     */
+    public void end(Dispatch dispatch) {
+        if (dispatch.parent != null) {
+            active.put(dispatch.thread, dispatch.parent);
+        } else {
+            active.remove(dispatch.thread);
+        }
+        long duration = System.nanoTime() - dispatch.startNanos;
+        if (duration < thresholdNanos) {
+            return;
+        }
+
+        SlowCommandReport report;
+        synchronized (dispatch) {
+            report = new SlowCommandReport(System.currentTimeMillis(), dispatch.command, dispatch.sender, dispatch.args,
+                    duration, dispatch.sampleCount, new HashMap<>(dispatch.samples));
+        }
+        reports.addFirst(report);
+        while (reports.size() > MAX_REPORTS) {
+            reports.pollLast();
+        }
+        logger.warning("Slow command: " + report);
+        String hottest = report.getHottestStack();
+        if (hottest != null) {
+            logger.warning("Hottest stack:\n" + hottest);
+        }
+    }
+
+    private void sample() {
+        long now = System.nanoTime();
+        for (Dispatch innermost : active.values()) {
+            // a nested dispatch runs inside its parents, so one stack sample counts for every slow level
+            String key = null;
+            for (Dispatch dispatch = innermost; dispatch != null; dispatch = dispatch.parent) {
+                if (now - dispatch.startNanos < thresholdNanos) {
+                    continue;
+                }
+                if (key == null) {
+                    key = sampleStack(innermost.thread);
+                }
+                synchronized (dispatch) {
+                    dispatch.samples.merge(key, 1, Integer::sum);
+                    dispatch.sampleCount++;
+                }
+            }
+        }
+    }
+
+    private static String sampleStack(Thread thread) {
+        StackTraceElement[] stack = thread.getStackTrace();
+        StringBuilder key = new StringBuilder();
+        for (int i = 0; i < stack.length && i < MAX_FRAMES; i++) {
+            key.append("\tat ").append(stack[i]).append('\n');
+        }
+        return key.toString();
+    }
+
+    /**
+     * Gets the most recent slow command reports, newest first.
+     *
+     * @return A copy of the stored reports.
+     */
+    public List<SlowCommandReport> getReports() {
+        return new ArrayList<>(reports);
+    }
+
+    public void clearReports() {
+        reports.clear();
+    }
+
+    public void shutdown() {
+        sampler.shutdownNow();
+        active.clear();
+    }
+}
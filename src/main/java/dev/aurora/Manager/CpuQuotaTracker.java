@@ -0,0 +1,231 @@
+package dev.aurora.Manager;
+
+import dev.aurora.struct.QuotaAction;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Tracks how much executor CPU time each player spends per command group and enforces rolling budgets.
+ * Each player has one {@link AtomicLongArray} holding, per group, the current window start and the usage of
+ * the current and previous window. Usage is estimated as a sliding window by weighting the previous window by
+ * how much of it still overlaps, and all updates are lock-free compare-and-set operations.
+ */
+public class CpuQuotaTracker {
+    private static final int MAX_GROUPS = 16;
+    private static final int SLOTS = 3;
+    private static final int WINDOW_START = 0;
+    private static final int CURRENT = 1;
+    private static final int PREVIOUS = 2;
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final Map<String, Group> groups;
+    private final Map<UUID, AtomicLongArray> usage;
+    private final Set<String> deferred;
+    private final AtomicInteger nextIndex;
+
+    /**
+     * A named budget shared by all commands in the group.
+     */
+    public static class Group {
+        private final String name;
+        private final int index;
+        private volatile long budgetNanos;
+        private volatile long windowMillis;
+        private volatile QuotaAction action;
+
+        Group(String name, int index) {
+            this.name = name;
+            this.index = index;
+            this.budgetNanos = Long.MAX_VALUE;
+            this.windowMillis = 1000L;
+            this.action = QuotaAction.REJECT;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getBudgetNanos() {
+            return budgetNanos;
+        }
+
+        public long getWindowMillis() {
+            return windowMillis;
+        }
+
+        public QuotaAction getAction() {
+            return action;
+        }
+    }
+
+    public CpuQuotaTracker() {
+        this.groups = new ConcurrentHashMap<>();
+        this.usage = new ConcurrentHashMap<>();
+        this.deferred = ConcurrentHashMap.newKeySet();
+        this.nextIndex = new AtomicInteger();
+    }
+
+    /**
+     * Sets the budget of a group, creating it if needed. Also turns on the JVM's thread CPU time
+     * measurement if it is supported but off; this is a JVM-wide setting, so it is only changed once
+     * a quota is actually configured.
+     *
+     * @param group        The group name.
+     * @param budgetNanos  The CPU time a player may use within one window.
+     * @param windowMillis The length of the rolling window.
+     * @param action       What happens once the budget is used up.
+     * @return The group.
+     */
+    public Group setQuota(String group, long budgetNanos, long windowMillis, QuotaAction action) {
+        Group quota = getGroup(group);
+        quota.budgetNanos = budgetNanos;
+        quota.windowMillis = windowMillis;
+        quota.action = action;
+        if (THREADS.isThreadCpuTimeSupported() && !THREADS.isThreadCpuTimeEnabled()) {
+            THREADS.setThreadCpuTimeEnabled(true);
+        }
+        return quota;
+    }
+
+    /**
+     * Gets a group by name, creating it with an unlimited budget if needed.
+     *
+     * @param group The group name.
+     * @return The group.
+     * @throws IllegalStateException If too many groups exist.
+     */
+    public Group getGroup(String group) {
+        return groups.computeIfAbsent(group.toLowerCase(), name -> {
+            int index = nextIndex.getAndIncrement();
+            if (index >= MAX_GROUPS) {
+                throw new IllegalStateException("At most " + MAX_GROUPS + " CPU quota groups are supported");
+            }
+            return new Group(name, index);
+        });
+    }
+
+    /**
+     * Records executor time for a player.
+     *
+     * @param player   The player.
+     * @param group    The group the command belongs to.
+     * @param cpuNanos The CPU time the executor used.
+     */
+    public void record(UUID player, Group group, long cpuNanos) {
+        AtomicLongArray slots = usage.computeIfAbsent(player, id -> new AtomicLongArray(MAX_GROUPS * SLOTS));
+        int base = group.index * SLOTS;
+        roll(slots, base, System.currentTimeMillis(), group.windowMillis);
+        slots.addAndGet(base + CURRENT, cpuNanos);
+    }
+
+    /**
+     * Gets the estimated CPU time a player used in the last window.
+     *
+     * @param player The player.
+     * @param group  The group.
+     * @return The used CPU time in nanoseconds.
+     */
+    public long getUsedNanos(UUID player, Group group) {
+        AtomicLongArray slots = usage.get(player);
+        if (slots == null) {
+            return 0L;
+        }
+        int base = group.index * SLOTS;
+        long now = System.currentTimeMillis();
+        long window = group.windowMillis;
+        roll(slots, base, now, window);
+        double remainingShare = 1.0 - Math.min(1.0, (now - slots.get(base + WINDOW_START)) / (double) window);
+        return slots.get(base + CURRENT) + (long) (slots.get(base + PREVIOUS) * remainingShare);
+    }
+
+    /**
+     * Estimates how long the player has to wait until the group's budget is available again.
+     *
+     * @param player The player.
+     * @param group  The group.
+     * @return The wait in milliseconds, or 0 if the player is within budget.
+     */
+    public long getWaitMillis(UUID player, Group group) {
+        long excess = getUsedNanos(player, group) - group.budgetNanos;
+        if (excess < 0) {
+            return 0L;
+        }
+        AtomicLongArray slots = usage.get(player);
+        if (slots == null) {
+            // Nothing recorded yet; only a zero budget gets here and there is no usage to wait out
+            return 0L;
+        }
+        int base = group.index * SLOTS;
+        long window = group.windowMillis;
+        long elapsed = System.currentTimeMillis() - slots.get(base + WINDOW_START);
+        long current = slots.get(base + CURRENT);
+        long previous = slots.get(base + PREVIOUS);
+        double remainingShare = 1.0 - Math.min(1.0, elapsed / (double) window);
+        if (previous > 0 && previous * remainingShare >= excess) {
+            // The previous window's decaying share alone covers the excess
+            return Math.max(1L, (long) (excess / (double) previous * window));
+        }
+        long untilRoll = Math.max(0L, window - elapsed);
+        return Math.max(1L, untilRoll + (current > 0 ? (long) (Math.max(0L, current - group.budgetNanos) / (double) current * window) : 0L));
+    }
+
+    /**
+     * Claims the single deferral slot of a player for a group.
+     *
+     * @param player The player.
+     * @param group  The group.
+     * @return False if a command of the group is already deferred for the player.
+     */
+    public boolean tryDefer(UUID player, Group group) {
+        return deferred.add(player + ":" + group.index);
+    }
+
+    public void releaseDeferral(UUID player, Group group) {
+        deferred.remove(player + ":" + group.index);
+    }
+
+    /**
+     * Drops all accounting for a player, e.g. when they leave.
+     *
+     * @param player The player.
+     */
+    public void forget(UUID player) {
+        usage.remove(player);
+        String prefix = player + ":";
+        deferred.removeIf(key -> key.startsWith(prefix));
+    }
+
+    /**
+     * Gets the CPU time of the current thread, falling back to wall time where the JVM cannot measure
+     * CPU time or measurement is turned off.
+     *
+     * @return A timestamp in nanoseconds.
+     */
+    public static long currentThreadCpuTime() {
+        long cpu = THREADS.isCurrentThreadCpuTimeSupported() ? THREADS.getCurrentThreadCpuTime() : -1L;
+        return cpu >= 0 ? cpu : System.nanoTime();
+    }
+
+    private static void roll(AtomicLongArray slots, int base, long now, long window) {
+        while (true) {
+            long start = slots.get(base + WINDOW_START);
+            long elapsed = now - start;
+            if (elapsed < window) {
+                return;
+            }
+            boolean skipped = elapsed >= 2 * window;
+            if (slots.compareAndSet(base + WINDOW_START, start, skipped ? now : start + window)) {
+                long current = slots.getAndSet(base + CURRENT, 0L);
+                slots.set(base + PREVIOUS, skipped ? 0L : current);
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package dev.aurora.Manager;
+
+import dev.aurora.Command.CommandPath;
+import dev.aurora.struct.ParsedArguments;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded LRU cache of resolved command lines, keyed by command and raw arguments. An entry holds the
+ * subcommand path the line routes to and the values of its stable arguments. Permission and cooldown
+ * are not part of an entry; they are checked on every dispatch.
+ */
+public class ParseCache {
+    private final Map<String, Entry> entries;
+
+    public static class Entry {
+        private final CommandPath path;
+        private final ParsedArguments arguments;
+
+        Entry(CommandPath path, ParsedArguments arguments) {
+            this.path = path;
+            this.arguments = arguments;
+        }
+
+        public CommandPath getPath() {
+            return path;
+        }
+
+        public ParsedArguments getArguments() {
+            return arguments;
+        }
+    }
+
+    /**
+     * Creates a cache.
+     *
+     * @param maxEntries How many lines are kept before the least recently used is evicted.
+     */
+    public ParseCache(int maxEntries) {
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Builds the key of a command line.
+     *
+     * @param command The name of the root command.
+     * @param args    The raw arguments.
+     * @return The cache key.
+     */
+    public static String keyOf(String command, String[] args) {
+        StringBuilder builder = new StringBuilder(command);
+        for (String arg : args) {
+            builder.append(' ').append(arg);
+        }
+        return builder.toString();
+    }
+
+    public Entry get(String key) {
+        synchronized (entries) {
+            return entries.get(key);
+        }
+    }
+
+    public void put(String key, CommandPath path, ParsedArguments arguments) {
+        synchronized (entries) {
+            entries.put(key, new Entry(path, arguments.retainStable()));
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package dev.aurora.Manager;
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/**
+ * Releases the per-player state of the command framework when a player leaves.
+ */
+public class PlayerSessionListener implements Listener {
+    private final TickBudgetScheduler taskScheduler;
+    private final CpuQuotaTracker cpuQuotas;
+
+    public PlayerSessionListener(TickBudgetScheduler taskScheduler, CpuQuotaTracker cpuQuotas) {
+        this.taskScheduler = taskScheduler;
+        this.cpuQuotas = cpuQuotas;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        // Nobody is left to receive the progress of the player's incremental commands
+        taskScheduler.cancel(event.getPlayer());
+        cpuQuotas.forget(event.getPlayer().getUniqueId());
+    }
+}
@@ -0,0 +1,211 @@
+package dev.aurora.Manager;
+
+import dev.aurora.Command.CommandPath;
+import dev.aurora.Message.MessageKey;
+import dev.aurora.Message.MessageService;
+import dev.aurora.struct.CommandOutcome;
+import dev.aurora.struct.DispatchResult;
+import dev.aurora.struct.IncrementalTask;
+import org.bukkit.ChatColor;
+import org.bukkit.command.CommandSender;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.logging.Logger;
+
+/**
+ * Runs a file of command lines, one line per step, so the scheduler spreads it over as many ticks
+ * as the budget requires. The file is streamed and never held in memory. Every line is resolved
+ * through the registered Aurora commands and dispatched directly; blank lines and lines starting
+ * with {@code #} are skipped. The number of finished lines is checkpointed next to the file, so a
+ * cancelled or interrupted run resumes where it stopped.
+ */
+public class ScriptRunTask implements IncrementalTask {
+    private static final int CHECKPOINT_INTERVAL = 500;
+
+    private final CommandManager manager;
+    private final MessageService messages;
+    private final CommandSender sender;
+    private final File file;
+    private final File checkpoint;
+    private final Logger logger;
+    private final long size;
+    private InputStream input;
+    private final ByteArrayOutputStream lineBuffer = new ByteArrayOutputStream();
+    private long position;
+    private long line;
+    private long resumeAt;
+    private long executed;
+    private long failed;
+    private long startNanos;
+
+    /**
+     * Creates a run of a script.
+     *
+     * @param manager The manager whose commands the lines are resolved against.
+     * @param sender  The sender the lines are executed as.
+     * @param file    The script.
+     * @param restart True to ignore an existing checkpoint and start from the first line.
+     */
+    public ScriptRunTask(CommandManager manager, CommandSender sender, File file, boolean restart) {
+        this.manager = manager;
+        this.messages = manager.getMessages();
+        this.sender = sender;
+        this.file = file;
+        this.checkpoint = new File(file.getPath() + ".checkpoint");
+        this.logger = manager.getPlugin().getLogger();
+        this.size = Math.max(1L, file.length());
+        this.resumeAt = restart ? 0 : readCheckpoint();
+    }
+
+    /**
+     * @throws UncheckedIOException If the script cannot be read; the scheduler then reports the failure and
+     *                              cancels the run, which checkpoints it.
+     */
+    @Override
+    public boolean step() {
+        try {
+            if (input == null) {
+                input = new BufferedInputStream(new FileInputStream(file));
+                startNanos = System.nanoTime();
+                sender.sendMessage(messages.format(sender, MessageKey.SCRIPT_STARTED, file.getName(), resumeAt + 1));
+            }
+            String text = readLine();
+            if (text == null) {
+                finish();
+                return true;
+            }
+            line++;
+            if (line > resumeAt) {
+                run(text);
+                if (line % CHECKPOINT_INTERVAL == 0) {
+                    writeCheckpoint(line);
+                }
+            }
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + file.getName() + " after line " + line, e);
+        }
+    }
+
+    /**
+     * Reads the next line as UTF-8, accepting LF and CRLF endings. Bytes are counted as they are consumed,
+     * so progress matches the file size whatever the encoding of the lines.
+     */
+    private String readLine() throws IOException {
+        lineBuffer.reset();
+        int read = input.read();
+        if (read < 0) {
+            return null;
+        }
+        while (read >= 0) {
+            position++;
+            if (read == '\n') {
+                break;
+            }
+            lineBuffer.write(read);
+            read = input.read();
+        }
+        byte[] bytes = lineBuffer.toByteArray();
+        int length = bytes.length > 0 && bytes[bytes.length - 1] == '\r' ? bytes.length - 1 : bytes.length;
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private void run(String text) {
+        String commandLine = text.trim();
+        if (commandLine.isEmpty() || commandLine.startsWith("#")) {
+            return;
+        }
+        if (commandLine.startsWith("/")) {
+            commandLine = commandLine.substring(1);
+        }
+
+        // Split like the Bukkit command map does
+        String[] parts = commandLine.split(" ");
+        executed++;
+        CommandPath path = manager.resolve(parts[0]);
+        if (path == null) {
+            fail("Unknown command: " + parts[0]);
+            return;
+        }
+        try {
+            DispatchResult result = manager.dispatch(sender, path, Arrays.copyOfRange(parts, 1, parts.length));
+            // A deferred line was accepted and runs once the sender's quota allows it
+            if (!result.isSuccess() && result.getOutcome() != CommandOutcome.DEFERRED) {
+                fail(result.getMessage() != null ? ChatColor.stripColor(result.getMessage()) : result.getOutcome().name());
+            }
+        } catch (RuntimeException e) {
+            logger.warning("Script line " + line + " of " + file.getName() + " threw " + e);
+            fail(e.toString());
+        }
+    }
+
+    private void fail(String error) {
+        failed++;
+        sender.sendMessage(messages.format(sender, MessageKey.SCRIPT_LINE_FAILED, file.getName(), line, error));
+    }
+
+    private void finish() {
+        close();
+        if (checkpoint.exists() && !checkpoint.delete()) {
+            logger.warning("Could not delete checkpoint " + checkpoint);
+        }
+        double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        long rate = seconds > 0 ? Math.round(executed / seconds) : executed;
+        sender.sendMessage(messages.format(sender, MessageKey.SCRIPT_FINISHED, file.getName(), executed,
+                String.format("%.1f", seconds), rate, failed));
+        logger.info("Ran script " + file + ": " + executed + " lines, " + failed + " failed, " + rate + " lines/s");
+    }
+
+    @Override
+    public double getProgress() {
+        return Math.min(1.0, (double) position / size);
+    }
+
+    @Override
+    public void onCancel() {
+        long done = Math.max(line, resumeAt);
+        close();
+        writeCheckpoint(done);
+        sender.sendMessage(messages.format(sender, MessageKey.SCRIPT_PAUSED, file.getName(), done));
+    }
+
+    private void close() {
+        if (input != null) {
+            try {
+                input.close();
+            } catch (IOException e) {
+                logger.warning("Failed to close script " + file + ": " + e.getMessage());
+            }
+            input = null;
+        }
+    }
+
+    private long readCheckpoint() {
+        if (!checkpoint.exists()) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(new String(Files.readAllBytes(checkpoint.toPath()), StandardCharsets.UTF_8).trim());
+        } catch (IOException | NumberFormatException e) {
+            logger.warning("Ignoring unreadable checkpoint " + checkpoint + ": " + e.getMessage());
+            return 0;
+        }
+    }
+
+    private void writeCheckpoint(long done) {
+        try {
+            Files.write(checkpoint.toPath(), Long.toString(done).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            logger.warning("Failed to write checkpoint " + checkpoint + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package dev.aurora.Manager;
+
+import dev.aurora.Message.MessageKey;
+import dev.aurora.Message.MessageService;
+import dev.aurora.struct.IncrementalTask;
+import org.bukkit.command.CommandSender;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+
+/**
+ * Drives {@link IncrementalTask}s from heavy commands across server ticks.
+ * All running tasks share a single per-tick nanosecond budget and are stepped round-robin,
+ * so one large command cannot starve the others or push the tick past its limit.
+ */
+public class TickBudgetScheduler {
+    private final JavaPlugin plugin;
+    private final MessageService messages;
+    private final ArrayDeque<RunningTask> tasks;
+    private long tickBudgetNanos;
+    private int progressIntervalTicks;
+    private BukkitTask tickTask;
+
+    private static class RunningTask {
+        private final CommandSender sender;
+        private final String commandName;
+        private final IncrementalTask task;
+        private int ticks;
+
+        RunningTask(CommandSender sender, String commandName, IncrementalTask task) {
+            this.sender = sender;
+            this.commandName = commandName;
+            this.task = task;
+        }
+    }
+
+    public TickBudgetScheduler(JavaPlugin plugin, MessageService messages) {
+        this.plugin = plugin;
+        this.messages = messages;
+        this.tasks = new ArrayDeque<>();
+        this.tickBudgetNanos = 5_000_000L;
+        this.progressIntervalTicks = 40;
+    }
+
+    /**
+     * Queues a task to be stepped on the following ticks.
+     *
+     * @param sender      The sender that started the task, used for progress and cancellation.
+     * @param commandName The name of the command that produced the task.
+     * @param task        The task to drive.
+     * @return False if the sender already has a running task for this command.
+     */
+    public boolean submit(CommandSender sender, String commandName, IncrementalTask task) {
+        for (RunningTask running : tasks) {
+            if (running.sender.getName().equals(sender.getName()) && running.commandName.equalsIgnoreCase(commandName)) {
+                return false;
+            }
+        }
+        tasks.add(new RunningTask(sender, commandName, task));
+        plugin.getLogger().info("Queued incremental task for command: " + commandName + " from " + sender.getName());
+        if (tickTask == null) {
+            tickTask = plugin.getServer().getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+        }
+        return true;
+    }
+
+    /**
+     * Cancels every running task that was started by the sender.
+     *
+     * @param sender The sender whose tasks should be cancelled.
+     * @return The number of cancelled tasks.
+     */
+    public int cancel(CommandSender sender) {
+        return cancel(sender, IncrementalTask.class);
+    }
+
+    /**
+     * Cancels the running tasks of one kind that were started by the sender.
+     *
+     * @param sender The sender whose tasks should be cancelled.
+     * @param type   The kind of task to cancel.
+     * @return The number of cancelled tasks.
+     */
+    public int cancel(CommandSender sender, Class<? extends IncrementalTask> type) {
+        int cancelled = 0;
+        Iterator<RunningTask> iterator = tasks.iterator();
+        while (iterator.hasNext()) {
+            RunningTask running = iterator.next();
+            if (running.sender.getName().equals(sender.getName()) && type.isInstance(running.task)) {
+                iterator.remove();
+                running.task.onCancel();
+                cancelled++;
+            }
+        }
+        stopIfIdle();
+        return cancelled;
+    }
+
+    /**
+     * Cancels the running task of one command that was started by the sender.
+     *
+     * @param sender      The sender whose task should be cancelled.
+     * @param commandName The name of the command that produced the task.
+     * @return The number of cancelled tasks.
+     */
+    public int cancel(CommandSender sender, String commandName) {
+        int cancelled = 0;
+        Iterator<RunningTask> iterator = tasks.iterator();
+        while (iterator.hasNext()) {
+            RunningTask running = iterator.next();
+            if (running.sender.getName().equals(sender.getName()) && running.commandName.equalsIgnoreCase(commandName)) {
+                iterator.remove();
+                running.task.onCancel();
+                cancelled++;
+            }
+        }
+        stopIfIdle();
+        return cancelled;
+    }
+
+    /**
+     * Cancels all running tasks and stops the tick loop.
+     */
+    public void cancelAll() {
+        for (RunningTask running : tasks) {
+            running.task.onCancel();
+        }
+        tasks.clear();
+        stopIfIdle();
+    }
+
+    private void tick() {
+        long deadline = System.nanoTime() + tickBudgetNanos;
+        for (RunningTask running : tasks) {
+            running.ticks++;
+            if (progressIntervalTicks > 0 && running.ticks % progressIntervalTicks == 0) {
+                double progress = running.task.getProgress();
+                if (progress >= 0) {
+                    running.sender.sendMessage(messages.format(running.sender, MessageKey.TASK_PROGRESS, running.commandName, (int) (progress * 100)));
+                }
+            }
+        }
+
+        // Always step at least once so a single task makes progress even with a tiny budget
+        do {
+            RunningTask running = tasks.poll();
+            if (running == null) {
+                break;
+            }
+            boolean finished;
+            try {
+                finished = running.task.step();
+            } catch (RuntimeException e) {
+                plugin.getLogger().severe("Incremental task for command " + running.commandName + " failed: " + e.getMessage());
+                e.printStackTrace();
+                running.sender.sendMessage(messages.format(running.sender, MessageKey.TASK_FAILED, running.commandName, e.getMessage()));
+                cancelFailed(running);
+                continue;
+            }
+            if (finished) {
+                running.sender.sendMessage(messages.format(running.sender, MessageKey.TASK_COMPLETED, running.commandName, running.ticks));
+            } else {
+                tasks.add(running);
+            }
+        } while (System.nanoTime() < deadline);
+
+        stopIfIdle();
+    }
+
+    private void cancelFailed(RunningTask running) {
+        // Let the task release what it holds, e.g. open files
+        try {
+            running.task.onCancel();
+        } catch (RuntimeException e) {
+            plugin.getLogger().warning("Cleanup of failed task for command " + running.commandName + " failed: " + e.getMessage());
+        }
+    }
+
+    private void stopIfIdle() {
+        if (tasks.isEmpty() && tickTask != null) {
+            tickTask.cancel();
+            tickTask = null;
+        }
+    }
+
+    public int getRunningTaskCount() {
+        return tasks.size();
+    }
+
+    public long getTickBudgetNanos() {
+        return tickBudgetNanos;
+    }
+
+    public void setTickBudgetNanos(long tickBudgetNanos) {
+        this.tickBudgetNanos = tickBudgetNanos;
+    }
+
+    public void setProgressIntervalTicks(int progressIntervalTicks) {
+        this.progressIntervalTicks = progressIntervalTicks;
+    }
+}
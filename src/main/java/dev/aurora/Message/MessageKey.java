@@ -0,0 +1,61 @@
+package dev.aurora.Message;
+
+/**
+ * The messages the framework itself sends, with their configuration path, built-in template and
+ * placeholders. Placeholder values are passed to {@link MessageService#format} in the declared order.
+ */
+public enum MessageKey {
+    NO_PERMISSION("no-permission", "§cYou don't have permission!"),
+    COOLDOWN("cooldown", "§cCommand on cooldown! Wait {seconds} seconds.", "seconds"),
+    SUBCOMMAND_COOLDOWN("subcommand-cooldown", "§cSubcommand on cooldown! Wait {seconds} seconds.", "seconds"),
+    INVALID_SENDER("invalid-sender", "§cThis command is only for {sender}!", "sender"),
+    USAGE("usage", "§cUsage: /{command} {usage}", "command", "usage"),
+    AVAILABLE_SUBCOMMANDS("available-subcommands", "§cAvailable subcommands: {subcommands}", "subcommands"),
+    NO_EXECUTION("no-execution", "§cNo execution defined for this command."),
+    PARSE_ERROR("parse-error", "§c{error}", "error"),
+    ALREADY_RUNNING("already-running", "§cYou already have /{command} running.", "command"),
+    QUOTA_DEFERRED("quota-deferred", "§eYou are using a lot of server time, /{command} will run in {seconds} seconds.", "command", "seconds"),
+    QUOTA_EXCEEDED("quota-exceeded", "§cYou are using too much server time! Wait {seconds} seconds.", "seconds"),
+    TASK_PROGRESS("task-progress", "§7/{command}: {percent}% complete", "command", "percent"),
+    TASK_FAILED("task-failed", "§c/{command} failed: {error}", "command", "error"),
+    TASK_COMPLETED("task-completed", "§a/{command} completed in {ticks} ticks.", "command", "ticks"),
+    TASKS_CANCELLED("tasks-cancelled", "§eCancelled {count} running command(s).", "count"),
+    NO_RUNNING_TASKS("no-running-tasks", "§cYou have no running commands to cancel."),
+    SCRIPT_NOT_FOUND("script-not-found", "§cScript {file} not found.", "file"),
+    SCRIPT_STARTED("script-started", "§7Running {file} from line {line}.", "file", "line"),
+    SCRIPT_LINE_FAILED("script-line-failed", "§c{file}:{line}: {error}", "file", "line", "error"),
+    SCRIPT_FINISHED("script-finished", "§a{file}: ran {lines} lines in {seconds}s ({rate} lines/s), {failed} failed.", "file", "lines", "seconds", "rate", "failed"),
+    SCRIPT_PAUSED("script-paused", "§e{file}: stopped after line {line}, run it again to resume.", "file", "line");
+
+    private final String path;
+    private final String defaultTemplate;
+    private final String[] placeholders;
+
+    MessageKey(String path, String defaultTemplate, String... placeholders) {
+        this.path = path;
+        this.defaultTemplate = defaultTemplate;
+        this.placeholders = placeholders;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public String getDefaultTemplate() {
+        return defaultTemplate;
+    }
+
+    public String[] getPlaceholders() {
+        return placeholders.clone();
+    }
+
+    /**
+     * Compiles a template text for this key.
+     *
+     * @param text The template text.
+     * @return The compiled template.
+     */
+    public MessageTemplate compile(String text) {
+        return MessageTemplate.compile(text, placeholders);
+    }
+}
@@ -0,0 +1,135 @@
+package dev.aurora.Message;
+
+import org.bukkit.command.CommandSender;
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Renders the framework's messages from per-locale templates. Templates are compiled when they are
+ * set or loaded and rendered into a per-thread buffer, so sending a message costs no parsing and,
+ * for templates without placeholders, no allocation at all.
+ */
+public class MessageService {
+    private static final MessageKey[] KEYS = MessageKey.values();
+
+    private final MessageTemplate[] defaults;
+    private final Map<String, MessageTemplate[]> locales;
+    private final ThreadLocal<StringBuilder> buffers;
+    private Function<CommandSender, String> localeResolver;
+
+    public MessageService() {
+        this.defaults = new MessageTemplate[KEYS.length];
+        for (MessageKey key : KEYS) {
+            defaults[key.ordinal()] = key.compile(key.getDefaultTemplate());
+        }
+        this.locales = new ConcurrentHashMap<>();
+        this.buffers = ThreadLocal.withInitial(() -> new StringBuilder(128));
+        this.localeResolver = sender -> null;
+    }
+
+    /**
+     * Sets how the locale of a sender is determined, e.g. from a player settings plugin.
+     * Returning null, or a locale without templates, falls back to the default templates.
+     *
+     * @param localeResolver Maps a sender to a locale such as {@code de_de}.
+     */
+    public void setLocaleResolver(Function<CommandSender, String> localeResolver) {
+        this.localeResolver = localeResolver;
+    }
+
+    /**
+     * Replaces a default template.
+     *
+     * @param key  The message.
+     * @param text The template text, using the placeholders of the key.
+     */
+    public void setTemplate(MessageKey key, String text) {
+        defaults[key.ordinal()] = key.compile(text);
+    }
+
+    /**
+     * Sets the template of a message for one locale.
+     *
+     * @param locale The locale, e.g. {@code de_de}.
+     * @param key    The message.
+     * @param text   The template text, using the placeholders of the key.
+     */
+    public void setTemplate(String locale, MessageKey key, String text) {
+        locales.computeIfAbsent(normalize(locale), l -> new MessageTemplate[KEYS.length])[key.ordinal()] = key.compile(text);
+    }
+
+    /**
+     * Loads templates from configuration. Top-level message paths (e.g. {@code no-permission}) replace the
+     * defaults; sections are read as locales holding the same paths, e.g. {@code de_de.no-permission}.
+     *
+     * @param section The configuration section holding the messages.
+     */
+    public void load(ConfigurationSection section) {
+        for (MessageKey key : KEYS) {
+            if (section.isString(key.getPath())) {
+                setTemplate(key, section.getString(key.getPath()));
+            }
+        }
+        for (String name : section.getKeys(false)) {
+            ConfigurationSection locale = section.getConfigurationSection(name);
+            if (locale == null) {
+                continue;
+            }
+            for (MessageKey key : KEYS) {
+                if (locale.isString(key.getPath())) {
+                    setTemplate(name, key, locale.getString(key.getPath()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Renders a message in the locale of the sender.
+     *
+     * @param sender The sender the message is for.
+     * @param key    The message.
+     * @param args   The placeholder values, in the order declared by the key.
+     * @return The rendered message.
+     */
+    public String format(CommandSender sender, MessageKey key, Object... args) {
+        return format(localeResolver.apply(sender), key, args);
+    }
+
+    /**
+     * Renders a message in a locale.
+     *
+     * @param locale The locale, or null for the defaults.
+     * @param key    The message.
+     * @param args   The placeholder values, in the order declared by the key.
+     * @return The rendered message.
+     */
+    public String format(String locale, MessageKey key, Object... args) {
+        MessageTemplate template = getTemplate(locale, key);
+        String constant = template.getConstant();
+        if (constant != null) {
+            return constant;
+        }
+        StringBuilder buffer = buffers.get();
+        buffer.setLength(0);
+        template.render(buffer, args);
+        return buffer.toString();
+    }
+
+    private MessageTemplate getTemplate(String locale, MessageKey key) {
+        if (locale != null && !locales.isEmpty()) {
+            MessageTemplate[] templates = locales.get(normalize(locale));
+            if (templates != null && templates[key.ordinal()] != null) {
+                return templates[key.ordinal()];
+            }
+        }
+        return defaults[key.ordinal()];
+    }
+
+    private static String normalize(String locale) {
+        return locale.toLowerCase(Locale.ENGLISH).replace('-', '_');
+    }
+}
@@ -0,0 +1,88 @@
+package dev.aurora.Message;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A message text with {@code {name}} placeholders, compiled once into literal segments and
+ * argument slots. Rendering only appends; nothing is parsed or searched per message.
+ * Unknown placeholders are kept as literal text.
+ */
+public final class MessageTemplate {
+    private final String[] literals;
+    private final int[] slots;
+    private final String constant;
+
+    private MessageTemplate(String[] literals, int[] slots) {
+        this.literals = literals;
+        this.slots = slots;
+        this.constant = slots.length == 0 ? literals[0] : null;
+    }
+
+    /**
+     * Compiles a template.
+     *
+     * @param text         The template text.
+     * @param placeholders The placeholder names, in the order their values are passed to {@link #render}.
+     * @return The compiled template.
+     */
+    public static MessageTemplate compile(String text, String... placeholders) {
+        // literals[i] precedes slots[i]; the last literal follows the last slot
+        List<String> literals = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            int close = c == '{' ? text.indexOf('}', i + 1) : -1;
+            int slot = close > 0 ? indexOf(placeholders, text.substring(i + 1, close)) : -1;
+            if (slot < 0) {
+                literal.append(c);
+                i++;
+                continue;
+            }
+            literals.add(literal.toString());
+            slots.add(slot);
+            literal.setLength(0);
+            i = close + 1;
+        }
+        literals.add(literal.toString());
+
+        int[] slotArray = new int[slots.size()];
+        for (int j = 0; j < slotArray.length; j++) {
+            slotArray[j] = slots.get(j);
+        }
+        return new MessageTemplate(literals.toArray(new String[0]), slotArray);
+    }
+
+    private static int indexOf(String[] placeholders, String name) {
+        for (int i = 0; i < placeholders.length; i++) {
+            if (placeholders[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Appends the message to a buffer.
+     *
+     * @param buffer The buffer to append to.
+     * @param args   The placeholder values.
+     */
+    public void render(StringBuilder buffer, Object... args) {
+        for (int i = 0; i < slots.length; i++) {
+            buffer.append(literals[i]);
+            int slot = slots[i];
+            buffer.append(slot < args.length ? args[slot] : "");
+        }
+        buffer.append(literals[slots.length]);
+    }
+
+    /**
+     * @return The text of a template without placeholders, or null if it has some.
+     */
+    public String getConstant() {
+        return constant;
+    }
+}
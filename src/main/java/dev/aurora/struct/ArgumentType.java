@@ -9,4 +9,29 @@ public interface ArgumentType<T> {
     String getName();
     T parse(CommandSender sender, String input) throws ArgumentParseException;
     List<String> getCompletions(CommandSender sender);
+
+    /**
+     * Gets the shape of tokens this type accepts, used to pick between overloaded signatures
+     * without parsing. Types that accept arbitrary text keep the default.
+     */
+    default TokenShape getShape() {
+        return TokenShape.ANY;
+    }
+
+    /**
+     * Whether parsing depends only on the input: the same input always yields an equal, immutable value
+     * regardless of sender, world or online players. Values of stable types may be reused across dispatches
+     * of an identical command line; other types are parsed again each time.
+     */
+    default boolean isStable() {
+        return false;
+    }
+
+    /**
+     * Gets the class of the values this type produces, used to check values passed to a typed dispatch.
+     * Types that do not override it accept any value there.
+     */
+    default Class<?> getValueType() {
+        return Object.class;
+    }
 }
\ No newline at end of file
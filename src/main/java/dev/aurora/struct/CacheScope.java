@@ -0,0 +1,11 @@
+package dev.aurora.struct;
+
+/**
+ * Who shares a cached command result.
+ */
+public enum CacheScope {
+    /** Every sender sees the same output for the same arguments. */
+    GLOBAL,
+    /** Each sender has their own cached output. */
+    SENDER
+}
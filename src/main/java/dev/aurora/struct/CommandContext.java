@@ -1,25 +1,103 @@
 package dev.aurora.struct;
 
+import dev.aurora.Execption.ArgumentParseException;
+import dev.aurora.Execption.LazyArgumentException;
+
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Consumer;
 
 public class CommandContext {
     private final Map<String, Object> arguments;
+    private final Map<String, Resolver> lazyArguments;
+    private Consumer<String> replyTarget;
+
+    /**
+     * Produces the value of a lazily parsed argument.
+     */
+    public interface Resolver {
+        Object resolve() throws ArgumentParseException;
+    }
 
     public CommandContext() {
         this.arguments = new HashMap<>();
+        this.lazyArguments = new HashMap<>();
     }
 
     public void addArgument(String name, Object value) {
         arguments.put(name, value);
+        lazyArguments.remove(name);
+    }
+
+    /**
+     * Adds an argument that is only parsed when it is first read. The value is memoized once resolved.
+     *
+     * @param name     The argument name.
+     * @param resolver Parses the argument.
+     */
+    public void addLazyArgument(String name, Resolver resolver) {
+        arguments.remove(name);
+        lazyArguments.put(name, resolver);
+    }
+
+    public boolean hasArgument(String name) {
+        return arguments.containsKey(name) || lazyArguments.containsKey(name);
     }
 
+    /**
+     * Gets an argument, resolving it first if it was added lazily.
+     *
+     * @param name The argument name.
+     * @return The value, or null if there is none.
+     * @throws LazyArgumentException If a lazy argument fails to parse.
+     */
     @SuppressWarnings("unchecked")
     public <T> T getArgument(String name) {
+        Resolver resolver = lazyArguments.get(name);
+        if (resolver != null) {
+            try {
+                arguments.put(name, resolver.resolve());
+            } catch (ArgumentParseException e) {
+                throw new LazyArgumentException(e);
+            }
+            lazyArguments.remove(name);
+        }
         return (T) arguments.get(name);
     }
 
+    /**
+     * Gets all arguments, resolving any lazy ones.
+     *
+     * @return A copy of the arguments.
+     * @throws LazyArgumentException If a lazy argument fails to parse.
+     */
     public Map<String, Object> getArguments(){
+        for (String name : new ArrayList<>(lazyArguments.keySet())) {
+            getArgument(name);
+        }
         return new HashMap<>(arguments);
     }
-}
\ No newline at end of file
+
+    /**
+     * Sends a message to the sender of the command. Unlike messages sent to the sender directly,
+     * replies are part of the command's result and are recorded by a result cache.
+     *
+     * @param message The message.
+     * @throws IllegalStateException If the context is not being executed.
+     */
+    public void reply(String message) {
+        if (replyTarget == null) {
+            throw new IllegalStateException("Replies can only be sent while the command is executed");
+        }
+        replyTarget.accept(message);
+    }
+
+    public boolean hasReplyTarget() {
+        return replyTarget != null;
+    }
+
+    public void setReplyTarget(Consumer<String> replyTarget) {
+        this.replyTarget = replyTarget;
+    }
+}
@@ -0,0 +1,24 @@
+package dev.aurora.struct;
+
+import org.bukkit.command.CommandSender;
+
+/**
+ * One parsed invocation of a command, as handed to a batch execution.
+ */
+public class CommandInvocation {
+    private final CommandSender sender;
+    private final CommandContext context;
+
+    public CommandInvocation(CommandSender sender, CommandContext context) {
+        this.sender = sender;
+        this.context = context;
+    }
+
+    public CommandSender getSender() {
+        return sender;
+    }
+
+    public CommandContext getContext() {
+        return context;
+    }
+}
@@ -0,0 +1,51 @@
+package dev.aurora.struct;
+
+/**
+ * The result of dispatching a command, as seen by the framework.
+ */
+public enum CommandOutcome {
+    SUCCESS(0),
+    DENIED(1),
+    COOLDOWN(2),
+    INVALID_SENDER(3),
+    USAGE(4),
+    PARSE_ERROR(5),
+    FAILED(6),
+    THROTTLED(7),
+    DEFERRED(8);
+
+    private static final CommandOutcome[] BY_ID;
+
+    static {
+        int max = 0;
+        for (CommandOutcome outcome : values()) {
+            max = Math.max(max, outcome.id);
+        }
+        BY_ID = new CommandOutcome[max + 1];
+        for (CommandOutcome outcome : values()) {
+            BY_ID[outcome.id] = outcome;
+        }
+    }
+
+    // Persisted in audit segments; never change or reuse an id, only add new ones
+    private final int id;
+
+    CommandOutcome(int id) {
+        this.id = id;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Looks up an outcome by its persisted id.
+     *
+     * @param id The id.
+     * @return The outcome, or FAILED for unknown ids.
+     */
+    public static CommandOutcome fromId(int id) {
+        CommandOutcome outcome = id >= 0 && id < BY_ID.length ? BY_ID[id] : null;
+        return outcome != null ? outcome : FAILED;
+    }
+}
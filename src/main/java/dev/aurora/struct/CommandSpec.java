@@ -0,0 +1,130 @@
+package dev.aurora.struct;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A command declared as a compact string, for example
+ * {@code tp <target:player> <dest:location> [silent:boolean]} or {@code eco set <target:player> <amount:double>}.
+ * The first token is the command name, following plain tokens are subcommand names, and
+ * {@code <name:type>} / {@code [name:type]} declare required and optional arguments whose types
+ * are resolved through an {@link ArgumentTypeRegistry}. A slot without a type is a string.
+ */
+public class CommandSpec {
+    private final String name;
+    private final List<String> path;
+    private final List<String> argumentNames;
+    private final List<ArgumentType<?>> argumentTypes;
+    private final List<Boolean> optional;
+
+    private CommandSpec(String name) {
+        this.name = name;
+        this.path = new ArrayList<>();
+        this.argumentNames = new ArrayList<>();
+        this.argumentTypes = new ArrayList<>();
+        this.optional = new ArrayList<>();
+    }
+
+    /**
+     * Parses a full command spec.
+     *
+     * @param spec     The spec string.
+     * @param registry The registry argument types are resolved from.
+     * @return The parsed spec.
+     * @throws IllegalArgumentException If the spec is malformed or names an unknown type.
+     */
+    public static CommandSpec parse(String spec, ArgumentTypeRegistry registry) {
+        String[] tokens = tokenize(spec);
+        if (tokens.length == 0 || isSlot(tokens[0])) {
+            throw new IllegalArgumentException("Command spec must start with a command name: " + spec);
+        }
+        CommandSpec result = new CommandSpec(tokens[0].toLowerCase());
+        int index = 1;
+        while (index < tokens.length && !isSlot(tokens[index])) {
+            result.path.add(tokens[index].toLowerCase());
+            index++;
+        }
+        result.parseSlots(spec, tokens, index, registry);
+        return result;
+    }
+
+    /**
+     * Parses an argument-only spec such as {@code <target:player> [reason:string]}.
+     *
+     * @param spec     The spec string.
+     * @param registry The registry argument types are resolved from.
+     * @return The parsed spec, with an empty name and path.
+     * @throws IllegalArgumentException If the spec is malformed or names an unknown type.
+     */
+    public static CommandSpec parseArguments(String spec, ArgumentTypeRegistry registry) {
+        CommandSpec result = new CommandSpec("");
+        result.parseSlots(spec, tokenize(spec), 0, registry);
+        return result;
+    }
+
+    private void parseSlots(String spec, String[] tokens, int start, ArgumentTypeRegistry registry) {
+        for (int i = start; i < tokens.length; i++) {
+            String token = tokens[i];
+            if (!isSlot(token)) {
+                throw new IllegalArgumentException("Unexpected literal '" + token + "' after arguments in spec: " + spec);
+            }
+            boolean isOptional = token.charAt(0) == '[';
+            if (!isOptional && optional.contains(Boolean.TRUE)) {
+                throw new IllegalArgumentException("Required argument '" + token + "' follows an optional one in spec: " + spec);
+            }
+            String body = token.substring(1, token.length() - 1);
+            int colon = body.indexOf(':');
+            String argumentName = colon >= 0 ? body.substring(0, colon) : body;
+            String typeName = colon >= 0 ? body.substring(colon + 1) : "string";
+            if (argumentName.isEmpty() || typeName.isEmpty()) {
+                throw new IllegalArgumentException("Malformed argument '" + token + "' in spec: " + spec);
+            }
+            ArgumentType<?> type = registry.getType(typeName);
+            if (type == null) {
+                throw new IllegalArgumentException("Unknown argument type '" + typeName + "' in spec: " + spec);
+            }
+            argumentNames.add(argumentName);
+            argumentTypes.add(type);
+            optional.add(isOptional);
+        }
+    }
+
+    private static String[] tokenize(String spec) {
+        String trimmed = spec.trim();
+        return trimmed.isEmpty() ? new String[0] : trimmed.split("\\s+");
+    }
+
+    private static boolean isSlot(String token) {
+        return token.length() >= 2 && ((token.charAt(0) == '<' && token.endsWith(">")) || (token.charAt(0) == '[' && token.endsWith("]")));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the subcommand names between the command name and the arguments.
+     *
+     * @return The subcommand path, possibly empty.
+     */
+    public List<String> getPath() {
+        return Collections.unmodifiableList(path);
+    }
+
+    public int getArgumentCount() {
+        return argumentNames.size();
+    }
+
+    public String getArgumentName(int index) {
+        return argumentNames.get(index);
+    }
+
+    public ArgumentType<?> getArgumentType(int index) {
+        return argumentTypes.get(index);
+    }
+
+    public boolean isOptional(int index) {
+        return optional.get(index);
+    }
+}
@@ -8,13 +8,24 @@ import org.bukkit.command.TabCompleter;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Routes tab completion to the registered command. Suggestions come from the command's compiled parse plans,
+ * whose types were resolved through the {@link ArgumentTypeRegistry} when a spec was applied, so spec-defined
+ * and builder-defined commands complete alike.
+ */
 public class CommandTabCompleter implements TabCompleter {
     private final Map<String, AuroraCommand> commands;
-    private final ArgumentTypeRegistry argumentRegistry;
 
-    public CommandTabCompleter(Map<String, AuroraCommand> commands, ArgumentTypeRegistry argumentRegistry) {
+    public CommandTabCompleter(Map<String, AuroraCommand> commands) {
         this.commands = commands;
-        this.argumentRegistry = argumentRegistry;
+    }
+
+    /**
+     * @deprecated Types are taken from the compiled plans, so the registry is not needed.
+     */
+    @Deprecated
+    public CommandTabCompleter(Map<String, AuroraCommand> commands, ArgumentTypeRegistry argumentRegistry) {
+        this(commands);
     }
 
     @Override
@@ -23,4 +34,4 @@ public class CommandTabCompleter implements TabCompleter {
         if (auroraCommand == null) return null;
         return auroraCommand.getTabCompletions(sender, args);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,46 @@
+package dev.aurora.struct;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The result of a direct dispatch: its outcome and the messages the framework would otherwise
+ * have sent to the sender (usage, permission, cooldown or parse error), in the order they were produced.
+ */
+public class DispatchResult {
+    private final CommandOutcome outcome;
+    private final List<String> messages;
+
+    public DispatchResult(CommandOutcome outcome, List<String> messages) {
+        this.outcome = outcome;
+        this.messages = Collections.unmodifiableList(new ArrayList<>(messages));
+    }
+
+    public CommandOutcome getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * @return The framework's messages for this dispatch, empty if there were none.
+     */
+    public List<String> getMessages() {
+        return messages;
+    }
+
+    /**
+     * @return The last of the framework's messages, which explains the outcome, or null if there were none.
+     */
+    public String getMessage() {
+        return messages.isEmpty() ? null : messages.get(messages.size() - 1);
+    }
+
+    public boolean isSuccess() {
+        return outcome == CommandOutcome.SUCCESS;
+    }
+
+    @Override
+    public String toString() {
+        return messages.isEmpty() ? outcome.toString() : outcome + ": " + String.join(" / ", messages);
+    }
+}
@@ -0,0 +1,269 @@
+package dev.aurora.struct;
+
+import dev.aurora.Execption.ArgumentParseException;
+import org.bukkit.command.CommandSender;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The compiled options of a command. Recognises POSIX-style options mixed with positional arguments:
+ * {@code --silent}, {@code -s}, clustered switches like {@code -sf}, {@code --duration=1d},
+ * {@code --duration 1d}, {@code -r 30} and {@code -r30}. A lone {@code --} ends option parsing and
+ * tokens that look like negative numbers stay positional. Every option token costs one {@link FlagTable} probe.
+ */
+public class FlagSet {
+    private static final char NO_SHORT_NAME = '\0';
+
+    private final String[] names;
+    private final char[] shortNames;
+    private final ArgumentType<?>[] types;
+    private final FlagTable table;
+    private final String usage;
+
+    /**
+     * Compiles a set of options.
+     *
+     * @param names      The long names, used as context keys.
+     * @param shortNames The single-character names, or '\0' for none.
+     * @param types      The value types, or null for switches.
+     * @throws IllegalArgumentException If two options share a name.
+     */
+    public FlagSet(String[] names, char[] shortNames, ArgumentType<?>[] types) {
+        this.names = names.clone();
+        this.shortNames = shortNames.clone();
+        this.types = types.clone();
+
+        List<String> keys = new ArrayList<>();
+        List<Integer> values = new ArrayList<>();
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < names.length; i++) {
+            // keys are written as on the command line, so a long and a short name may share a letter
+            addKey(keys, values, "--" + names[i], i);
+            if (shortNames[i] != NO_SHORT_NAME) {
+                addKey(keys, values, "-" + shortNames[i], i);
+            }
+            if (builder.length() > 0) {
+                builder.append(' ');
+            }
+            builder.append('[');
+            if (shortNames[i] != NO_SHORT_NAME) {
+                builder.append('-').append(shortNames[i]).append('|');
+            }
+            builder.append("--").append(names[i]);
+            if (types[i] != null) {
+                builder.append(" <").append(names[i]).append('>');
+            }
+            builder.append(']');
+        }
+        int[] valueArray = new int[values.size()];
+        for (int i = 0; i < valueArray.length; i++) {
+            valueArray[i] = values.get(i);
+        }
+        this.table = new FlagTable(keys.toArray(new String[0]), valueArray);
+        this.usage = builder.toString();
+    }
+
+    private static void addKey(List<String> keys, List<Integer> values, String key, int index) {
+        if (keys.contains(key)) {
+            throw new IllegalArgumentException("Duplicate option name: " + key);
+        }
+        keys.add(key);
+        values.add(index);
+    }
+
+    /**
+     * Removes options from the arguments and parses their values into the map. Switches that
+     * were not given are stored as false so executors can read them without null checks.
+     *
+     * @param sender The sender executing the command.
+     * @param args   The raw arguments.
+     * @param values The map option values are stored in, keyed by long name.
+     * @return The remaining positional arguments.
+     * @throws ArgumentParseException If an option is unknown or its value is missing or invalid.
+     */
+    public String[] extract(CommandSender sender, String[] args, Map<String, Object> values) throws ArgumentParseException {
+        putDefaults(values);
+        String[] positional = new String[args.length];
+        int count = 0;
+        boolean optionsEnded = false;
+        for (int i = 0; i < args.length; i++) {
+            String token = args[i];
+            if (optionsEnded || !isOption(token)) {
+                positional[count++] = token;
+            } else if (token.equals("--")) {
+                optionsEnded = true;
+            } else if (token.startsWith("--")) {
+                int equals = token.indexOf('=');
+                int end = equals >= 0 ? equals : token.length();
+                int index = lookupLong(token, end);
+                if (index < 0) {
+                    throw new ArgumentParseException("Unknown option: " + token.substring(0, end));
+                }
+                if (types[index] == null) {
+                    if (equals >= 0) {
+                        throw new ArgumentParseException("Option --" + names[index] + " does not take a value");
+                    }
+                    values.put(names[index], Boolean.TRUE);
+                } else if (equals >= 0) {
+                    values.put(names[index], types[index].parse(sender, token.substring(equals + 1)));
+                } else {
+                    values.put(names[index], types[index].parse(sender, requireValue(args, ++i, index)));
+                }
+            } else {
+                // Clustered short options; a value-taking option consumes the rest of the token or the next one
+                for (int j = 1; j < token.length(); j++) {
+                    int index = lookupShort(token, j);
+                    if (index < 0) {
+                        throw new ArgumentParseException("Unknown option: -" + token.charAt(j));
+                    }
+                    if (types[index] == null) {
+                        values.put(names[index], Boolean.TRUE);
+                        continue;
+                    }
+                    String value = j + 1 < token.length() ? token.substring(j + 1) : requireValue(args, ++i, index);
+                    values.put(names[index], types[index].parse(sender, value));
+                    break;
+                }
+            }
+        }
+        return Arrays.copyOf(positional, count);
+    }
+
+    /**
+     * Stores false for every switch, the value a switch has when it is not given.
+     *
+     * @param values The map option values are stored in, keyed by long name.
+     */
+    public void putDefaults(Map<String, Object> values) {
+        for (int i = 0; i < names.length; i++) {
+            if (types[i] == null) {
+                values.put(names[i], Boolean.FALSE);
+            }
+        }
+    }
+
+    /**
+     * Gets the class of the values an option holds.
+     *
+     * @param name The long name.
+     * @return Boolean for switches, the value type of other options, or null if there is no such option.
+     */
+    public Class<?> getValueType(String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return types[i] == null ? Boolean.class : types[i].getValueType();
+            }
+        }
+        return null;
+    }
+
+    public String[] getNames() {
+        return names.clone();
+    }
+
+    private String requireValue(String[] args, int index, int option) throws ArgumentParseException {
+        if (index >= args.length) {
+            throw new ArgumentParseException("Option --" + names[option] + " requires a value");
+        }
+        return args[index];
+    }
+
+    private static boolean isOption(String token) {
+        return token.length() > 1 && token.charAt(0) == '-' && !TokenShape.NUMERIC.matches(token);
+    }
+
+    /**
+     * Gets completions when the last argument is an option or an option's value.
+     *
+     * @param sender The sender requesting completions.
+     * @param args   The current arguments, the last one being completed.
+     * @return The completions, or null if the last argument is positional.
+     */
+    public List<String> getCompletions(CommandSender sender, String[] args) {
+        String current = args[args.length - 1];
+        if (args.length > 1) {
+            String previous = args[args.length - 2];
+            int index = valueOptionAwaitingInput(previous);
+            if (index >= 0) {
+                return filter(types[index].getCompletions(sender), "", current);
+            }
+        }
+        if (current.startsWith("--") && current.indexOf('=') > 2) {
+            int equals = current.indexOf('=');
+            int index = lookupLong(current, equals);
+            if (index < 0 || types[index] == null) {
+                return new ArrayList<>();
+            }
+            return filter(types[index].getCompletions(sender), current.substring(0, equals + 1), current);
+        }
+        if (!current.startsWith("-") || TokenShape.NUMERIC.matches(current)) {
+            return null;
+        }
+        List<String> options = new ArrayList<>();
+        for (int i = 0; i < names.length; i++) {
+            options.add("--" + names[i]);
+            if (shortNames[i] != NO_SHORT_NAME) {
+                options.add("-" + shortNames[i]);
+            }
+        }
+        return filter(options, "", current);
+    }
+
+    /**
+     * Removes complete options and their values so positional completion sees only positional arguments.
+     * Unknown options are dropped instead of reported.
+     *
+     * @param args The current arguments, the last one being completed.
+     * @return The positional arguments, always including the last one.
+     */
+    public String[] stripForCompletion(String[] args) {
+        List<String> positional = new ArrayList<>();
+        boolean optionsEnded = false;
+        for (int i = 0; i < args.length - 1; i++) {
+            String token = args[i];
+            if (optionsEnded || !isOption(token)) {
+                positional.add(token);
+            } else if (token.equals("--")) {
+                optionsEnded = true;
+            } else if (valueOptionAwaitingInput(token) >= 0) {
+                i++;
+            }
+        }
+        positional.add(args[args.length - 1]);
+        return positional.toArray(new String[0]);
+    }
+
+    private int valueOptionAwaitingInput(String token) {
+        if (!isOption(token) || token.indexOf('=') >= 0) {
+            return -1;
+        }
+        int index = token.startsWith("--") ? lookupLong(token, token.length()) : lookupShort(token, token.length() - 1);
+        return index >= 0 && types[index] != null ? index : -1;
+    }
+
+    private int lookupLong(String token, int end) {
+        return end > 2 ? table.lookup(token, 0, end) : -1;
+    }
+
+    private int lookupShort(String token, int position) {
+        return table.lookup('-', token, position, position + 1);
+    }
+
+    private static List<String> filter(List<String> completions, String prefix, String current) {
+        List<String> filtered = new ArrayList<>();
+        for (String completion : completions) {
+            String candidate = prefix + completion;
+            if (candidate.toLowerCase().startsWith(current.toLowerCase())) {
+                filtered.add(candidate);
+            }
+        }
+        return filtered;
+    }
+
+    public String getUsage() {
+        return usage;
+    }
+}
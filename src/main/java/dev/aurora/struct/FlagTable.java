@@ -0,0 +1,160 @@
+package dev.aurora.struct;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A static minimal perfect-hash table from option names to indices, built with hash-and-displace.
+ * Keys are first hashed into buckets; each bucket gets a seed under which all its keys land on
+ * distinct free slots of a table exactly as large as the key set. A lookup is therefore two hashes,
+ * one slot probe and one key comparison, and it works on a region of a token so
+ * {@code --duration=1d} needs no substring allocation.
+ */
+public class FlagTable {
+    private static final int MAX_SEED = 1 << 20;
+    private static final int NO_PREFIX = -1;
+
+    private final String[] keys;
+    private final int[] values;
+    private final int[] seeds;
+
+    /**
+     * Builds the table.
+     *
+     * @param keys   The distinct keys.
+     * @param values The value for each key.
+     * @throws IllegalArgumentException If keys are duplicated or the table cannot be built.
+     */
+    public FlagTable(String[] keys, int[] values) {
+        int size = keys.length;
+        this.keys = new String[size];
+        this.values = new int[size];
+        this.seeds = new int[Math.max(1, size)];
+        if (size == 0) {
+            return;
+        }
+
+        List<List<Integer>> buckets = new ArrayList<>();
+        for (int i = 0; i < seeds.length; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        for (int i = 0; i < size; i++) {
+            buckets.get(Math.floorMod(hash(0, keys[i], 0, keys[i].length()), seeds.length)).add(i);
+        }
+        Integer[] order = new Integer[seeds.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        // Place the largest buckets first while the table is still empty
+        Arrays.sort(order, (a, b) -> Integer.compare(buckets.get(b).size(), buckets.get(a).size()));
+
+        boolean[] taken = new boolean[size];
+        int[] slots = new int[size];
+        for (int bucket : order) {
+            List<Integer> members = buckets.get(bucket);
+            if (members.isEmpty()) {
+                break;
+            }
+            int seed = 1;
+            while (!tryPlace(keys, members, seed, taken, slots)) {
+                if (++seed > MAX_SEED) {
+                    throw new IllegalArgumentException("Could not build flag table, duplicate keys? " + Arrays.toString(keys));
+                }
+            }
+            seeds[bucket] = seed;
+            for (int i = 0; i < members.size(); i++) {
+                int key = members.get(i);
+                taken[slots[i]] = true;
+                this.keys[slots[i]] = keys[key];
+                this.values[slots[i]] = values[key];
+            }
+        }
+    }
+
+    private boolean tryPlace(String[] keys, List<Integer> members, int seed, boolean[] taken, int[] slots) {
+        for (int i = 0; i < members.size(); i++) {
+            String key = keys[members.get(i)];
+            int slot = Math.floorMod(hash(seed, key, 0, key.length()), taken.length);
+            if (taken[slot]) {
+                return false;
+            }
+            for (int j = 0; j < i; j++) {
+                if (slots[j] == slot) {
+                    return false;
+                }
+            }
+            slots[i] = slot;
+        }
+        return true;
+    }
+
+    /**
+     * Looks up a key given as a region of a token.
+     *
+     * @param token The token containing the key.
+     * @param start The start of the key (inclusive).
+     * @param end   The end of the key (exclusive).
+     * @return The value, or -1 if the key is not in the table.
+     */
+    public int lookup(String token, int start, int end) {
+        return lookup(NO_PREFIX, token, start, end);
+    }
+
+    /**
+     * Looks up a key made of a prefix character followed by a region of a token, e.g. the
+     * {@code -f} of a clustered {@code -sf}, without building the key.
+     *
+     * @param prefix The first character of the key.
+     * @param token  The token containing the rest of the key.
+     * @param start  The start of the rest (inclusive).
+     * @param end    The end of the rest (exclusive).
+     * @return The value, or -1 if the key is not in the table.
+     */
+    public int lookup(char prefix, String token, int start, int end) {
+        return lookup((int) prefix, token, start, end);
+    }
+
+    private int lookup(int prefix, String token, int start, int end) {
+        int length = end - start + (prefix == NO_PREFIX ? 0 : 1);
+        if (keys.length == 0 || length <= 0) {
+            return -1;
+        }
+        int bucket = Math.floorMod(hash(0, prefix, token, start, end), seeds.length);
+        int slot = Math.floorMod(hash(seeds[bucket], prefix, token, start, end), keys.length);
+        String key = keys[slot];
+        if (key.length() != length) {
+            return -1;
+        }
+        if (prefix == NO_PREFIX) {
+            return token.regionMatches(start, key, 0, length) ? values[slot] : -1;
+        }
+        return key.charAt(0) == prefix && token.regionMatches(start, key, 1, length - 1) ? values[slot] : -1;
+    }
+
+    public int lookup(String key) {
+        return lookup(key, 0, key.length());
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    private static int hash(int seed, String key, int start, int end) {
+        return hash(seed, NO_PREFIX, key, start, end);
+    }
+
+    private static int hash(int seed, int prefix, String key, int start, int end) {
+        // FNV-1a over UTF-16 code units, seeded so each bucket can pick its own function
+        int hash = 0x811C9DC5 ^ (seed * 0x9E3779B9);
+        if (prefix != NO_PREFIX) {
+            hash ^= prefix;
+            hash *= 0x01000193;
+        }
+        for (int i = start; i < end; i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x01000193;
+        }
+        return hash ^ (hash >>> 16);
+    }
+}
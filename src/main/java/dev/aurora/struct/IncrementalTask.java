@@ -0,0 +1,31 @@
+package dev.aurora.struct;
+
+/**
+ * A resumable unit of heavy command work that is driven across several server ticks.
+ * Each call to {@link #step()} should perform a small, bounded slice of work so the
+ * scheduler can stop between steps once the per-tick budget is used up.
+ */
+public interface IncrementalTask {
+
+    /**
+     * Performs the next slice of work.
+     *
+     * @return True once the task has finished, false if more steps are required.
+     */
+    boolean step();
+
+    /**
+     * Gets the completion of the task, used for progress reporting.
+     *
+     * @return A value between 0 and 1, or a negative value if progress is unknown.
+     */
+    default double getProgress() {
+        return -1;
+    }
+
+    /**
+     * Called when the task is cancelled before finishing.
+     */
+    default void onCancel() {
+    }
+}
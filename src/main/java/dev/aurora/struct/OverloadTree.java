@@ -0,0 +1,145 @@
+package dev.aurora.struct;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Several argument signatures of one command compiled into a decision tree. The tree first
+ * branches on the token count and then, position by position, on which {@link TokenShape}s the
+ * token matches, so the overloads a command line can belong to are found in one pass without
+ * parsing. Only when shapes cannot tell signatures apart does a leaf hold more than one candidate.
+ */
+public class OverloadTree {
+    private static final int[] NO_CANDIDATES = new int[0];
+
+    private final Node[] byCount;
+
+    private static class Node {
+        private final int[] candidates;
+        private int position;
+        private TokenShape[] shapes;
+        private Node[] children;
+
+        Node(int[] candidates) {
+            this.candidates = candidates;
+        }
+    }
+
+    /**
+     * Compiles the signatures into a tree. Each signature accepts between its required
+     * and total number of arguments.
+     *
+     * @param plans The signatures, in priority order.
+     */
+    public OverloadTree(ParsePlan[] plans) {
+        if (plans.length > 64) {
+            throw new IllegalArgumentException("At most 64 overloads are supported, got " + plans.length);
+        }
+        int maxCount = 0;
+        for (ParsePlan plan : plans) {
+            maxCount = Math.max(maxCount, plan.size());
+        }
+        this.byCount = new Node[maxCount + 1];
+        for (int count = 0; count <= maxCount; count++) {
+            long set = 0L;
+            for (int i = 0; i < plans.length; i++) {
+                if (plans[i].getRequired() <= count && count <= plans[i].size()) {
+                    set |= 1L << i;
+                }
+            }
+            byCount[count] = build(plans, set, count, 0, new HashMap<>());
+        }
+    }
+
+    private static Node build(ParsePlan[] plans, long set, int count, int position, Map<String, Node> memo) {
+        String key = position + ":" + set;
+        Node cached = memo.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        Node node = new Node(toIndices(set));
+        memo.put(key, node);
+
+        // Skip positions where every remaining candidate accepts any token
+        List<TokenShape> shapes = new ArrayList<>();
+        while (node.candidates.length > 1 && position < count && shapes.isEmpty()) {
+            for (int candidate : node.candidates) {
+                TokenShape shape = plans[candidate].getType(position).getShape();
+                if (shape != TokenShape.ANY && !shapes.contains(shape)) {
+                    shapes.add(shape);
+                }
+            }
+            if (shapes.isEmpty()) {
+                position++;
+            }
+        }
+        if (shapes.isEmpty()) {
+            return node;
+        }
+
+        node.position = position;
+        node.shapes = shapes.toArray(new TokenShape[0]);
+        node.children = new Node[1 << node.shapes.length];
+        for (int mask = 0; mask < node.children.length; mask++) {
+            long filtered = 0L;
+            for (int candidate : node.candidates) {
+                TokenShape shape = plans[candidate].getType(position).getShape();
+                int bit = shapes.indexOf(shape);
+                if (shape == TokenShape.ANY || (mask & (1 << bit)) != 0) {
+                    filtered |= 1L << candidate;
+                }
+            }
+            node.children[mask] = build(plans, filtered, count, position + 1, memo);
+        }
+        return node;
+    }
+
+    private static int[] toIndices(long set) {
+        int[] indices = new int[Long.bitCount(set)];
+        int next = 0;
+        for (int i = 0; i < 64; i++) {
+            if ((set & (1L << i)) != 0) {
+                indices[next++] = i;
+            }
+        }
+        return indices;
+    }
+
+    /**
+     * Gets every signature that accepts the number of arguments, ignoring token shapes.
+     *
+     * @param count The number of arguments.
+     * @return The signature indices in priority order, or an empty array if none accept the count.
+     */
+    public int[] acceptingCount(int count) {
+        return count >= 0 && count < byCount.length ? byCount[count].candidates : NO_CANDIDATES;
+    }
+
+    /**
+     * Finds the signatures that can match the arguments.
+     *
+     * @param args   The raw arguments.
+     * @param offset The index of the first argument.
+     * @return The candidate signature indices in priority order, or an empty array if none fit.
+     */
+    public int[] select(String[] args, int offset) {
+        int count = args.length - offset;
+        if (count < 0 || count >= byCount.length) {
+            return NO_CANDIDATES;
+        }
+        Node node = byCount[count];
+        while (node.children != null) {
+            String token = args[offset + node.position];
+            int mask = 0;
+            for (int i = 0; i < node.shapes.length; i++) {
+                if (node.shapes[i].matches(token)) {
+                    mask |= 1 << i;
+                }
+            }
+            node = node.children[mask];
+        }
+        return node.candidates;
+    }
+}
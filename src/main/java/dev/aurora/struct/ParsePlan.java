@@ -0,0 +1,108 @@
+package dev.aurora.struct;
+
+import dev.aurora.Execption.ArgumentParseException;
+import org.bukkit.command.CommandSender;
+
+/**
+ * A command's argument list compiled into flat arrays of slot names and resolved types.
+ * Built once when a command is registered so dispatch only walks the arrays.
+ * Optional slots always follow the required ones.
+ */
+public class ParsePlan {
+    private final String[] names;
+    private final ArgumentType<?>[] types;
+    private final int required;
+    private final String usage;
+
+    public ParsePlan(String[] names, ArgumentType<?>[] types, int required) {
+        if (names.length != types.length || required < 0 || required > names.length) {
+            throw new IllegalArgumentException("Invalid parse plan: " + names.length + " names, " + types.length + " types, " + required + " required");
+        }
+        this.names = names.clone();
+        this.types = types.clone();
+        this.required = required;
+
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < names.length; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(i < required ? '<' : '[').append(names[i]).append(i < required ? '>' : ']');
+        }
+        this.usage = builder.toString();
+    }
+
+    /**
+     * Parses the arguments into the context. Optional slots without input are left unset.
+     *
+     * @param sender  The sender executing the command.
+     * @param args    The raw arguments.
+     * @param offset  The index of the first argument for this plan.
+     * @param context The context to fill.
+     * @throws ArgumentParseException If an argument fails to parse.
+     */
+    public void parse(CommandSender sender, String[] args, int offset, CommandContext context) throws ArgumentParseException {
+        int available = Math.min(names.length, args.length - offset);
+        for (int i = 0; i < available; i++) {
+            context.addArgument(names[i], types[i].parse(sender, args[offset + i]));
+        }
+    }
+
+    /**
+     * Adds the arguments to the context without parsing them; each is parsed when the executor first reads it.
+     * Tokens that are syntactically malformed for their type are parsed right away so the usage error is
+     * reported before the executor runs.
+     *
+     * @param sender  The sender executing the command.
+     * @param args    The raw arguments.
+     * @param offset  The index of the first argument for this plan.
+     * @param context The context to fill.
+     * @throws ArgumentParseException If a malformed argument fails to parse.
+     */
+    public void parseLazily(CommandSender sender, String[] args, int offset, CommandContext context) throws ArgumentParseException {
+        int available = Math.min(names.length, args.length - offset);
+        for (int i = 0; i < available; i++) {
+            ArgumentType<?> type = types[i];
+            String token = args[offset + i];
+            if (token == null || !type.getShape().isWellFormed(token)) {
+                context.addArgument(names[i], type.parse(sender, token));
+            } else {
+                context.addLazyArgument(names[i], () -> type.parse(sender, token));
+            }
+        }
+    }
+
+    /**
+     * Checks whether enough arguments were given to satisfy the required slots.
+     *
+     * @param count The number of arguments available to this plan.
+     * @return True if the count covers every required slot.
+     */
+    public boolean accepts(int count) {
+        return count >= required;
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    public int getRequired() {
+        return required;
+    }
+
+    public String getName(int index) {
+        return names[index];
+    }
+
+    public ArgumentType<?> getType(int index) {
+        return types[index];
+    }
+
+    public boolean isOptional(int index) {
+        return index >= required;
+    }
+
+    public String getUsage() {
+        return usage;
+    }
+}
@@ -0,0 +1,86 @@
+package dev.aurora.struct;
+
+import dev.aurora.Execption.ArgumentParseException;
+import org.bukkit.command.CommandSender;
+
+/**
+ * The raw and parsed arguments of one command line, as produced by a {@link ParsePlan}. Kept by the
+ * parse cache so identical lines skip parsing of their stable arguments.
+ */
+public class ParsedArguments {
+    private final ParsePlan plan;
+    private final String[] args;
+    private final Object[] values;
+
+    public ParsedArguments(ParsePlan plan, String[] args, Object[] values) {
+        this.plan = plan;
+        this.args = args;
+        this.values = values;
+    }
+
+    /**
+     * Parses every argument of a line.
+     *
+     * @param plan   The plan of the command.
+     * @param sender The sender executing the command.
+     * @param args   The raw arguments, already accepted by the plan.
+     * @return The parsed arguments.
+     * @throws ArgumentParseException If an argument fails to parse.
+     */
+    public static ParsedArguments parse(ParsePlan plan, CommandSender sender, String[] args) throws ArgumentParseException {
+        Object[] values = new Object[Math.min(plan.size(), args.length)];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = plan.getType(i).parse(sender, args[i]);
+        }
+        return new ParsedArguments(plan, args, values);
+    }
+
+    /**
+     * Gets a copy that only keeps the values of stable types, safe to keep across dispatches.
+     */
+    public ParsedArguments retainStable() {
+        Object[] stable = new Object[values.length];
+        for (int i = 0; i < values.length; i++) {
+            if (plan.getType(i).isStable()) {
+                stable[i] = values[i];
+            }
+        }
+        return new ParsedArguments(plan, args, stable);
+    }
+
+    /**
+     * Gets a copy for a new dispatch, parsing again every argument whose type is not stable.
+     *
+     * @param sender The sender executing the command.
+     * @return The arguments for this dispatch.
+     * @throws ArgumentParseException If an argument fails to parse.
+     */
+    public ParsedArguments resolve(CommandSender sender) throws ArgumentParseException {
+        Object[] resolved = values.clone();
+        for (int i = 0; i < resolved.length; i++) {
+            if (!plan.getType(i).isStable()) {
+                resolved[i] = plan.getType(i).parse(sender, args[i]);
+            }
+        }
+        return new ParsedArguments(plan, args, resolved);
+    }
+
+    /**
+     * Adds the values to a context.
+     *
+     * @param context The context to fill.
+     */
+    public void fill(CommandContext context) {
+        for (int i = 0; i < values.length; i++) {
+            context.addArgument(plan.getName(i), values[i]);
+        }
+    }
+
+    public ParsePlan getPlan() {
+        return plan;
+    }
+
+    public String[] getArgs() {
+        return args;
+    }
+}
@@ -0,0 +1,11 @@
+package dev.aurora.struct;
+
+/**
+ * What happens to a command when the sender's CPU budget for its group is used up.
+ */
+public enum QuotaAction {
+    /** The command is refused and the sender is told to wait. */
+    REJECT,
+    /** The command runs later, once the budget has recovered. At most one command per group waits at a time. */
+    DEFER
+}
@@ -0,0 +1,143 @@
+package dev.aurora.struct;
+
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Entity;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A bounded, TTL-based cache of the chat output a command produced. Executions are recorded from the
+ * replies sent through {@link CommandContext#reply} and replayed to later senders with the same key. Concurrent misses on one key are
+ * deduplicated: the first caller computes, the others receive its output once it is done.
+ */
+public class ResultCache {
+    private final long ttlMillis;
+    private final Map<String, Entry> entries;
+    private final Map<String, CompletableFuture<String[]>> inFlight;
+
+    private static class Entry {
+        private final String[] messages;
+        private final long expiresAt;
+
+        Entry(String[] messages, long expiresAt) {
+            this.messages = messages;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * Creates a cache.
+     *
+     * @param ttlMillis  How long a result stays valid.
+     * @param maxEntries How many results are kept before the least recently used is evicted.
+     */
+    public ResultCache(long ttlMillis, int maxEntries) {
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.inFlight = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Gets a cached result that has not expired.
+     *
+     * @param key The cache key.
+     * @return The recorded messages, or null on a miss.
+     */
+    public String[] get(String key) {
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt <= System.currentTimeMillis()) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.messages;
+        }
+    }
+
+    /**
+     * Starts computing a key unless another caller already is.
+     *
+     * @param key The cache key.
+     * @return Null if the caller must compute and then call {@link #complete} or {@link #abandon},
+     * otherwise the pending result of the caller that is already computing.
+     */
+    public CompletableFuture<String[]> claim(String key) {
+        return inFlight.putIfAbsent(key, new CompletableFuture<>());
+    }
+
+    /**
+     * Stores a computed result and hands it to callers waiting on the key.
+     *
+     * @param key      The cache key.
+     * @param messages The recorded messages.
+     */
+    public void complete(String key, String[] messages) {
+        synchronized (entries) {
+            entries.put(key, new Entry(messages, System.currentTimeMillis() + ttlMillis));
+        }
+        CompletableFuture<String[]> flight = inFlight.remove(key);
+        if (flight != null) {
+            flight.complete(messages);
+        }
+    }
+
+    /**
+     * Gives up computing a key without caching anything. Waiting callers receive null.
+     *
+     * @param key The cache key.
+     */
+    public void abandon(String key) {
+        CompletableFuture<String[]> flight = inFlight.remove(key);
+        if (flight != null) {
+            flight.complete(null);
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Builds a cache key from the parsed arguments. Entities are keyed by UUID, other values by their string form.
+     *
+     * @param scope     The scope part, e.g. a sender or group id.
+     * @param signature Identifies which signature of the command ran.
+     * @param context   The parsed arguments.
+     * @return The key.
+     */
+    public static String keyOf(String scope, String signature, CommandContext context) {
+        StringBuilder key = new StringBuilder(scope).append('\u0000').append(signature);
+        for (Map.Entry<String, Object> argument : new TreeMap<>(context.getArguments()).entrySet()) {
+            Object value = argument.getValue();
+            key.append('\u0000').append(argument.getKey()).append('=')
+                    .append(value instanceof Entity ? ((Entity) value).getUniqueId() : String.valueOf(value));
+        }
+        return key.toString();
+    }
+
+    /**
+     * Sends recorded messages to a sender.
+     *
+     * @param sender   The sender.
+     * @param messages The recorded messages.
+     */
+    public static void replay(CommandSender sender, String[] messages) {
+        for (String message : messages) {
+            sender.sendMessage(message);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package dev.aurora.struct;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A record of a command dispatch that exceeded the watchdog threshold, together with
+ * the stack samples that were taken from the executing thread while it was running.
+ */
+public class SlowCommandReport {
+    private final long timestamp;
+    private final String command;
+    private final String sender;
+    private final String[] args;
+    private final long durationNanos;
+    private final int sampleCount;
+    private final Map<String, Integer> stackSamples;
+
+    public SlowCommandReport(long timestamp, String command, String sender, String[] args, long durationNanos, int sampleCount, Map<String, Integer> stackSamples) {
+        this.timestamp = timestamp;
+        this.command = command;
+        this.sender = sender;
+        this.args = args;
+        this.durationNanos = durationNanos;
+        this.sampleCount = sampleCount;
+        this.stackSamples = stackSamples;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public String getCommand() {
+        return command;
+    }
+
+    public String getSender() {
+        return sender;
+    }
+
+    public String[] getArgs() {
+        return args.clone();
+    }
+
+    public long getDurationMillis() {
+        return durationNanos / 1_000_000L;
+    }
+
+    public int getSampleCount() {
+        return sampleCount;
+    }
+
+    /**
+     * Gets the distinct sampled stacks, most frequently seen first.
+     *
+     * @return A map of formatted stack to the number of samples it appeared in.
+     */
+    public Map<String, Integer> getStackSamples() {
+        List<Map.Entry<String, Integer>> entries = new ArrayList<>(stackSamples.entrySet());
+        entries.sort(Collections.reverseOrder(Map.Entry.comparingByValue()));
+        Map<String, Integer> sorted = new LinkedHashMap<>();
+        for (Map.Entry<String, Integer> entry : entries) {
+            sorted.put(entry.getKey(), entry.getValue());
+        }
+        return sorted;
+    }
+
+    /**
+     * Gets the most frequently sampled stack, which usually points at the slow code.
+     *
+     * @return The hottest stack, or null if no samples were taken.
+     */
+    public String getHottestStack() {
+        String hottest = null;
+        int best = 0;
+        for (Map.Entry<String, Integer> entry : stackSamples.entrySet()) {
+            if (entry.getValue() > best) {
+                best = entry.getValue();
+                hottest = entry.getKey();
+            }
+        }
+        return hottest;
+    }
+
+    @Override
+    public String toString() {
+        return "/" + command + " " + String.join(" ", args) + " by " + sender + " took " + getDurationMillis() + "ms (" + sampleCount + " samples)";
+    }
+}
@@ -0,0 +1,202 @@
+package dev.aurora.struct;
+
+import org.bukkit.Bukkit;
+
+/**
+ * Cheap checks on the shape of a raw token, used to tell overloaded signatures apart
+ * before running the full (and possibly expensive) argument parsing.
+ */
+public enum TokenShape {
+    /** Any token. */
+    ANY {
+        @Override
+        public boolean matches(String token) {
+            return true;
+        }
+    },
+    /** An optionally signed whole number, in any of the digits {@link Integer#parseInt(String)} reads. */
+    INTEGER {
+        @Override
+        public boolean matches(String token) {
+            return isInteger(token);
+        }
+    },
+    /** Anything {@link Double#parseDouble(String)} reads, e.g. {@code -2.5}, {@code .5}, {@code 1e3} or {@code NaN}. */
+    NUMERIC {
+        @Override
+        public boolean matches(String token) {
+            return isNumber(token, 0, token.length());
+        }
+    },
+    /** Coordinates in the form x,y,z or world,x,y,z. */
+    COORDINATE {
+        @Override
+        public boolean matches(String token) {
+            int commas = 0;
+            int end = token.length();
+            int[] starts = new int[4];
+            for (int i = 0; i < end; i++) {
+                if (token.charAt(i) == ',') {
+                    if (++commas > 3) {
+                        return false;
+                    }
+                    starts[commas] = i + 1;
+                }
+            }
+            if (commas < 2) {
+                return false;
+            }
+            int first = commas == 3 ? 1 : 0;
+            for (int part = first; part <= commas; part++) {
+                int partEnd = part < commas ? starts[part + 1] - 1 : end;
+                if (!isNumber(token, starts[part], partEnd)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    },
+    /**
+     * The name of an online player. Unlike the other shapes, {@link #matches(String)} looks the
+     * player up on the server and must run on the main thread; {@link #isWellFormed(String)} only
+     * checks the characters and length of the name.
+     */
+    PLAYER {
+        @Override
+        public boolean matches(String token) {
+            return Bukkit.getPlayerExact(token) != null;
+        }
+
+        @Override
+        public boolean isWellFormed(String token) {
+            if (token.isEmpty() || token.length() > 16) {
+                return false;
+            }
+            for (int i = 0; i < token.length(); i++) {
+                char c = token.charAt(i);
+                if (!(c == '_' || (c >= '0' && c <= '9') || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z'))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    },
+    /** The literal true or false. */
+    BOOLEAN {
+        @Override
+        public boolean matches(String token) {
+            return token.equalsIgnoreCase("true") || token.equalsIgnoreCase("false");
+        }
+
+        @Override
+        public boolean isWellFormed(String token) {
+            // BooleanArgumentType reads anything other than "true" as false
+            return true;
+        }
+    };
+
+    /**
+     * Checks whether a token has this shape.
+     *
+     * @param token The raw token.
+     * @return True if the token could be parsed by a type of this shape.
+     */
+    public abstract boolean matches(String token);
+
+    /**
+     * Purely syntactic check that never consults server state. Used to report malformed input
+     * immediately when the actual parsing is deferred.
+     *
+     * @param token The raw token.
+     * @return False if a type of this shape can certainly not parse the token.
+     */
+    public boolean isWellFormed(String token) {
+        return matches(token);
+    }
+
+    private static boolean isInteger(String token) {
+        int i = 0;
+        int end = token.length();
+        if (i < end && (token.charAt(i) == '-' || token.charAt(i) == '+')) {
+            i++;
+        }
+        if (i == end) {
+            return false;
+        }
+        for (; i < end; i++) {
+            if (Character.digit(token.charAt(i), 10) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Follows the grammar of {@link Double#valueOf(String)}, so a region matches exactly when
+     * parseDouble (and parseFloat) would accept it.
+     */
+    private static boolean isNumber(String token, int start, int end) {
+        // parseDouble trims surrounding whitespace and control characters
+        while (start < end && token.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && token.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        int i = start;
+        if (i < end && (token.charAt(i) == '-' || token.charAt(i) == '+')) {
+            i++;
+        }
+        if (token.startsWith("NaN", i)) {
+            return i + 3 == end;
+        }
+        if (token.startsWith("Infinity", i)) {
+            return i + 8 == end;
+        }
+        boolean hex = end - i > 2 && token.charAt(i) == '0' && (token.charAt(i + 1) == 'x' || token.charAt(i + 1) == 'X');
+        if (hex) {
+            i += 2;
+        }
+        int radix = hex ? 16 : 10;
+        boolean digits = false;
+        boolean dot = false;
+        for (; i < end; i++) {
+            char c = token.charAt(i);
+            if (isDigit(c, radix)) {
+                digits = true;
+            } else if (c == '.' && !dot) {
+                dot = true;
+            } else {
+                break;
+            }
+        }
+        if (!digits) {
+            return false;
+        }
+        boolean exponent = i < end && (hex ? token.charAt(i) == 'p' || token.charAt(i) == 'P' : token.charAt(i) == 'e' || token.charAt(i) == 'E');
+        if (hex && !exponent) {
+            return false;
+        }
+        if (exponent) {
+            i++;
+            if (i < end && (token.charAt(i) == '-' || token.charAt(i) == '+')) {
+                i++;
+            }
+            int exponentStart = i;
+            while (i < end && isDigit(token.charAt(i), 10)) {
+                i++;
+            }
+            if (i == exponentStart) {
+                return false;
+            }
+        }
+        if (i < end && "fFdD".indexOf(token.charAt(i)) >= 0) {
+            i++;
+        }
+        return i == end;
+    }
+
+    private static boolean isDigit(char c, int radix) {
+        return (c >= '0' && c <= '9') || (radix == 16 && ((c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F')));
+    }
+}
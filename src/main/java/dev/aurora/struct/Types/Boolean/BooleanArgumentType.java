@@ -2,6 +2,7 @@ package dev.aurora.struct.Types.Boolean;
 
 import dev.aurora.Execption.ArgumentParseException;
 import dev.aurora.struct.ArgumentType;
+import dev.aurora.struct.TokenShape;
 import org.bukkit.Bukkit;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
@@ -25,6 +26,11 @@ public class BooleanArgumentType implements ArgumentType<Boolean> {
         }
     }
 
+    @Override
+    public TokenShape getShape() {
+        return TokenShape.BOOLEAN;
+    }
+
     @Override
     public List<String> getCompletions(CommandSender sender) {
         List<String> completions = new ArrayList<>();
@@ -32,4 +38,14 @@ public class BooleanArgumentType implements ArgumentType<Boolean> {
         completions.add("false");
         return completions;
     }
+
+    @Override
+    public boolean isStable() {
+        return true;
+    }
+
+    @Override
+    public Class<?> getValueType() {
+        return Boolean.class;
+    }
 }
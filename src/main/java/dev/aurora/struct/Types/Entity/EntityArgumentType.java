@@ -36,4 +36,14 @@ public class EntityArgumentType implements ArgumentType<EntityType> {
         }
         return entities;
     }
+
+    @Override
+    public boolean isStable() {
+        return true;
+    }
+
+    @Override
+    public Class<?> getValueType() {
+        return EntityType.class;
+    }
 }
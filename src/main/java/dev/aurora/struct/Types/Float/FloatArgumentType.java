@@ -2,6 +2,7 @@ package dev.aurora.struct.Types.Float;
 
 import dev.aurora.Execption.ArgumentParseException;
 import dev.aurora.struct.ArgumentType;
+import dev.aurora.struct.TokenShape;
 import org.bukkit.command.CommandSender;
 
 import java.awt.*;
@@ -23,8 +24,23 @@ public class FloatArgumentType implements ArgumentType<Float> {
         }
     }
 
+    @Override
+    public TokenShape getShape() {
+        return TokenShape.NUMERIC;
+    }
+
     @Override
     public List<String> getCompletions(CommandSender sender) {
         return Collections.emptyList();
     }
+
+    @Override
+    public boolean isStable() {
+        return true;
+    }
+
+    @Override
+    public Class<?> getValueType() {
+        return Float.class;
+    }
 }
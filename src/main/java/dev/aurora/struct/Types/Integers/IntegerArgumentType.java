@@ -2,6 +2,7 @@ package dev.aurora.struct.Types.Integers;
 
 import dev.aurora.Execption.ArgumentParseException;
 import dev.aurora.struct.ArgumentType;
+import dev.aurora.struct.TokenShape;
 import org.bukkit.command.CommandSender;
 
 import java.util.Collections;
@@ -22,8 +23,23 @@ public class IntegerArgumentType implements ArgumentType<Integer> {
         }
     }
 
+    @Override
+    public TokenShape getShape() {
+        return TokenShape.INTEGER;
+    }
+
     @Override
     public List<String> getCompletions(CommandSender sender) {
         return Collections.emptyList();
     }
-}
\ No newline at end of file
+
+    @Override
+    public boolean isStable() {
+        return true;
+    }
+
+    @Override
+    public Class<?> getValueType() {
+        return Integer.class;
+    }
+}
@@ -25,4 +25,14 @@ public class ItemDataArgumentType implements ArgumentType<Integer> {
     public List<String> getCompletions(CommandSender sender) {
         return Collections.emptyList();
     }
+
+    @Override
+    public boolean isStable() {
+        return true;
+    }
+
+    @Override
+    public Class<?> getValueType() {
+        return Integer.class;
+    }
 }
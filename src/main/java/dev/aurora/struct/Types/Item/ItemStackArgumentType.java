@@ -9,6 +9,7 @@ import org.bukkit.inventory.ItemStack;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 
 public class ItemStackArgumentType implements ArgumentType<ItemStack> {
     @Override
@@ -21,12 +22,12 @@ public class ItemStackArgumentType implements ArgumentType<ItemStack> {
         if (input == null || input.trim().isEmpty()){
             throw new ArgumentParseException("Item cant be null");
         }
-        for (Material mat : Material.values()){
-            if (mat.name().equalsIgnoreCase(input)){
-                return new ItemStack(mat);
-            }
+        Material mat = Material.getMaterial(input.toUpperCase(Locale.ENGLISH));
+        if (mat == null){
+            throw new ArgumentParseException("invalid Item");
         }
-        throw new ArgumentParseException("invalid Item");
+        // A fresh stack every time; ItemStacks are mutable, so this type is not stable
+        return new ItemStack(mat);
     }
 
     @Override
@@ -37,4 +38,9 @@ public class ItemStackArgumentType implements ArgumentType<ItemStack> {
         }
         return items;
     }
+
+    @Override
+    public Class<?> getValueType() {
+        return ItemStack.class;
+    }
 }
@@ -2,6 +2,7 @@ package dev.aurora.struct.Types.Location;
 
 import dev.aurora.Execption.ArgumentParseException;
 import dev.aurora.struct.ArgumentType;
+import dev.aurora.struct.TokenShape;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.World;
@@ -51,6 +52,11 @@ public class LocationArgumentType implements ArgumentType<Location> {
         }
     }
 
+    @Override
+    public TokenShape getShape() {
+        return TokenShape.COORDINATE;
+    }
+
     @Override
     public List<String> getCompletions(CommandSender sender) {
         List<String> completions = new ArrayList<>();
@@ -65,4 +71,9 @@ public class LocationArgumentType implements ArgumentType<Location> {
         }
         return completions;
     }
+
+    @Override
+    public Class<?> getValueType() {
+        return Location.class;
+    }
 }
\ No newline at end of file
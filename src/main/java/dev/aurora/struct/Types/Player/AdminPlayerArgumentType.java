@@ -2,6 +2,7 @@ package dev.aurora.struct.Types.Player;
 
 import dev.aurora.Execption.ArgumentParseException;
 import dev.aurora.struct.ArgumentType;
+import dev.aurora.struct.TokenShape;
 import org.bukkit.Bukkit;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
@@ -30,6 +31,11 @@ public class AdminPlayerArgumentType implements ArgumentType<Player> {
         throw new ArgumentParseException(input);
     }
 
+    @Override
+    public TokenShape getShape() {
+        return TokenShape.PLAYER;
+    }
+
     @Override
     public List<String> getCompletions(CommandSender sender) {
         List<String > admins = new ArrayList<>();
@@ -49,4 +55,8 @@ public class AdminPlayerArgumentType implements ArgumentType<Player> {
         return admins;
     }
 
+    @Override
+    public Class<?> getValueType() {
+        return Player.class;
+    }
 }
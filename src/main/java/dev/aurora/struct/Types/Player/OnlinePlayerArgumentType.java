@@ -2,6 +2,7 @@ package dev.aurora.struct.Types.Player;
 
 import dev.aurora.Execption.ArgumentParseException;
 import dev.aurora.struct.ArgumentType;
+import dev.aurora.struct.TokenShape;
 import org.bukkit.Bukkit;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
@@ -30,6 +31,11 @@ public class OnlinePlayerArgumentType implements ArgumentType<Player> {
         throw new ArgumentParseException("Player '" + input + "' not found or offline!");
     }
 
+    @Override
+    public TokenShape getShape() {
+        return TokenShape.PLAYER;
+    }
+
     @Override
     public List<String> getCompletions(CommandSender sender) {
         List<String> completions = new ArrayList<>();
@@ -38,4 +44,9 @@ public class OnlinePlayerArgumentType implements ArgumentType<Player> {
         }
         return completions;
     }
+
+    @Override
+    public Class<?> getValueType() {
+        return Player.class;
+    }
 }
\ No newline at end of file
@@ -31,4 +31,14 @@ public class StringArgumentType implements ArgumentType<String> {
     public List<String> getCompletions(CommandSender sender) {
         return Collections.emptyList();
     }
+
+    @Override
+    public boolean isStable() {
+        return true;
+    }
+
+    @Override
+    public Class<?> getValueType() {
+        return String.class;
+    }
 }
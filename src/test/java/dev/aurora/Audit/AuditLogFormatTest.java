@@ -0,0 +1,61 @@
+package dev.aurora.Audit;
+
+import dev.aurora.struct.CommandOutcome;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class AuditLogFormatTest {
+
+    @Test
+    public void roundTripsRecords() {
+        UUID id = UUID.randomUUID();
+        AuditRecord record = new AuditRecord(1234L, id, "Bob", "eco", new String[]{"give", "Alice", "5"}, CommandOutcome.THROTTLED);
+
+        ByteBuffer encoded = AuditLogFormat.encode(record);
+        assertEquals(encoded.remaining(), encoded.getInt(0));
+        AuditRecord decoded = AuditLogFormat.decode(encoded);
+
+        assertEquals(1234L, decoded.getTimestamp());
+        assertEquals(id, decoded.getSenderId());
+        assertEquals("Bob", decoded.getSenderName());
+        assertEquals("eco", decoded.getCommand());
+        assertArrayEquals(new String[]{"give", "Alice", "5"}, decoded.getArgs());
+        assertEquals(CommandOutcome.THROTTLED, decoded.getOutcome());
+    }
+
+    @Test
+    public void writesStableOutcomeIds() {
+        AuditRecord record = new AuditRecord(0L, AuditRecord.NON_PLAYER, "CONSOLE", "x", new String[0], CommandOutcome.DEFERRED);
+        ByteBuffer encoded = AuditLogFormat.encode(record);
+        assertEquals(8, encoded.get(AuditLogFormat.FIXED_RECORD_SIZE - 1));
+
+        for (CommandOutcome outcome : CommandOutcome.values()) {
+            assertEquals(outcome, CommandOutcome.fromId(outcome.getId()));
+        }
+        assertEquals(CommandOutcome.FAILED, CommandOutcome.fromId(200));
+    }
+
+    @Test
+    public void truncatesLongStringsOnCharacterBoundaries() {
+        StringBuilder arg = new StringBuilder();
+        arg.append('a');
+        while (arg.length() < 40000) {
+            // Three bytes each, so the 64 KiB limit falls inside a character
+            arg.append('€');
+        }
+        AuditRecord record = new AuditRecord(0L, AuditRecord.NON_PLAYER, "CONSOLE", "say", new String[]{arg.toString()}, CommandOutcome.SUCCESS);
+
+        String decoded = AuditLogFormat.decode(AuditLogFormat.encode(record)).getArgs()[0];
+
+        assertTrue(decoded.length() < arg.length());
+        assertTrue(arg.toString().startsWith(decoded));
+        assertTrue(decoded.getBytes(StandardCharsets.UTF_8).length <= 0xFFFF);
+    }
+}
@@ -0,0 +1,72 @@
+package dev.aurora.Audit;
+
+import dev.aurora.TestKit.FakeCommandSender;
+import dev.aurora.struct.CommandOutcome;
+import org.bukkit.command.CommandSender;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class AuditLogWriterTest {
+    private static final Path MAPS = Paths.get("/proc/self/maps");
+
+    private static int countMappings(File directory) throws IOException {
+        String path = directory.getCanonicalPath() + File.separator;
+        int mappings = 0;
+        for (String line : Files.readAllLines(MAPS, StandardCharsets.UTF_8)) {
+            if (line.contains(path)) {
+                mappings++;
+            }
+        }
+        return mappings;
+    }
+
+    @Test
+    public void rotatesAndKeepsTheNewestSegments() throws IOException {
+        File directory = Files.createTempDirectory("audit").toFile();
+        CommandSender sender = new FakeCommandSender("Console", CommandSender.class).asSender();
+        AuditLogWriter writer = new AuditLogWriter(directory, Logger.getLogger("AuditLogWriterTest"), 4096, 3, 10_000);
+
+        for (int i = 0; i < 500; i++) {
+            writer.append(sender, "say", new String[]{"message", String.valueOf(i)}, CommandOutcome.SUCCESS);
+        }
+        writer.close();
+
+        assertEquals(3, AuditLogReader.listSegments(directory).length);
+        List<AuditRecord> records = new ArrayList<>();
+        new AuditLogReader(directory).scan(records::add);
+        assertTrue(records.size() < 500);
+        assertEquals("499", records.get(records.size() - 1).getArgs()[1]);
+    }
+
+    @Test
+    public void unmapsRotatedSegments() throws IOException, InterruptedException {
+        Assume.assumeTrue(Files.isReadable(MAPS));
+        File directory = Files.createTempDirectory("audit").toFile();
+        CommandSender sender = new FakeCommandSender("Console", CommandSender.class).asSender();
+        AuditLogWriter writer = new AuditLogWriter(directory, Logger.getLogger("AuditLogWriterTest"), 4096, 64, 10_000);
+
+        for (int i = 0; i < 500; i++) {
+            writer.append(sender, "say", new String[]{"message", String.valueOf(i)}, CommandOutcome.SUCCESS);
+        }
+        while (AuditLogReader.listSegments(directory).length < 5) {
+            Thread.sleep(10);
+        }
+        assertTrue(countMappings(directory) <= 1);
+
+        writer.close();
+        assertEquals(0, countMappings(directory));
+    }
+}
@@ -0,0 +1,100 @@
+package dev.aurora.Command;
+
+import dev.aurora.Execption.ArgumentParseException;
+import dev.aurora.Manager.CommandManager;
+import dev.aurora.Manager.CpuQuotaTracker;
+import dev.aurora.TestKit.FakePlayer;
+import dev.aurora.TestKit.FakePlugin;
+import dev.aurora.TestKit.FakeServer;
+import dev.aurora.struct.CommandInvocation;
+import dev.aurora.struct.CommandOutcome;
+import dev.aurora.struct.DispatchResult;
+import dev.aurora.struct.QuotaAction;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class BatchExecutionTest {
+    private CommandManager manager;
+    private final List<List<CommandInvocation>> batches = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        FakeServer.get().reset();
+        manager = new CommandManager(new FakePlugin("BatchTest"));
+    }
+
+    @Test
+    public void collectsInvocationsOfOneTick() throws ArgumentParseException {
+        AuroraCommand command = new AuroraCommand("balance", manager)
+                .addBatchExecution(CommandSender.class, batches::add);
+        Player alice = new FakePlayer("Alice").asPlayer();
+        Player bob = new FakePlayer("Bob").asPlayer();
+
+        assertEquals(CommandOutcome.SUCCESS, command.execute(alice, new String[0]));
+        assertEquals(CommandOutcome.SUCCESS, command.execute(bob, new String[0]));
+        FakeServer.get().getScheduler().tick();
+
+        assertEquals(1, batches.size());
+        assertEquals(2, batches.get(0).size());
+    }
+
+    @Test
+    public void chargesAndChecksQuotaPerInvocation() throws ArgumentParseException {
+        manager.setCpuQuota("economy", 0L, 60L, QuotaAction.REJECT);
+        AuroraCommand command = new AuroraCommand("balance", manager)
+                .addCpuQuotaGroup("economy")
+                .addBatchExecution(CommandSender.class, batch -> burnCpu());
+        FakePlayer alice = new FakePlayer("Alice");
+
+        assertEquals(CommandOutcome.SUCCESS, command.execute(alice.asPlayer(), new String[0]));
+        FakeServer.get().getScheduler().tick();
+
+        CpuQuotaTracker quotas = manager.getCpuQuotas();
+        assertTrue(quotas.getUsedNanos(alice.getUniqueId(), quotas.getGroup("economy")) > 0);
+        assertEquals(CommandOutcome.THROTTLED, command.execute(alice.asPlayer(), new String[0]));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void rejectsBatchNextToPlainExecution() {
+        new AuroraCommand("balance", manager)
+                .addExecution(CommandSender.class, (sender, context) -> { })
+                .addBatchExecution(CommandSender.class, batches::add)
+                .compile();
+    }
+
+    private static void burnCpu() {
+        long start = CpuQuotaTracker.currentThreadCpuTime();
+        while (CpuQuotaTracker.currentThreadCpuTime() - start < 2_000_000L) {
+            Math.sqrt(start);
+        }
+    }
+
+    @Test
+    public void malformedLazyArgumentFailsOnlyItsInvocation() {
+        new AuroraCommand("pay", manager)
+                .addArgument("amount", "integer")
+                .addLazyArguments()
+                .addBatchExecution(CommandSender.class, batches::add)
+                .register();
+        CommandPath path = manager.resolve("pay");
+
+        DispatchResult good = manager.dispatch(new FakePlayer("Alice").asPlayer(), path, "5");
+        DispatchResult bad = manager.dispatch(new FakePlayer("Bob").asPlayer(), path, "99999999999");
+        FakeServer.get().getScheduler().tick();
+
+        assertEquals(CommandOutcome.SUCCESS, good.getOutcome());
+        assertEquals(CommandOutcome.PARSE_ERROR, bad.getOutcome());
+        assertTrue(bad.getMessage().contains("99999999999"));
+        assertEquals(1, batches.size());
+        assertEquals(1, batches.get(0).size());
+        assertEquals(Integer.valueOf(5), batches.get(0).get(0).getContext().getArgument("amount"));
+    }
+}
@@ -0,0 +1,138 @@
+package dev.aurora.Command;
+
+import dev.aurora.Manager.CommandManager;
+import dev.aurora.TestKit.FakeCommandSender;
+import dev.aurora.TestKit.FakePlugin;
+import dev.aurora.TestKit.FakeServer;
+import dev.aurora.struct.ArgumentType;
+import dev.aurora.struct.CommandOutcome;
+import dev.aurora.struct.DispatchResult;
+import org.bukkit.command.CommandSender;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LazyArgumentsTest {
+    private CommandManager manager;
+    private CommandSender sender;
+    private final CountingType counting = new CountingType();
+    private final List<Object> read = new ArrayList<>();
+    private int executions;
+
+    @Before
+    public void setUp() {
+        FakeServer.get().reset();
+        manager = new CommandManager(new FakePlugin("LazyTest"));
+        sender = new FakeCommandSender("Console", CommandSender.class).setOp(true).asSender();
+    }
+
+    @Test
+    public void parsesOnFirstReadOnly() {
+        new AuroraCommand("lookup", manager)
+                .addArgument("target", counting)
+                .addOptionalArgument("other", counting)
+                .addLazyArguments()
+                .addExecution(CommandSender.class, (s, context) -> {
+                    read.add(context.getArgument("target"));
+                    read.add(context.getArgument("target"));
+                })
+                .register();
+
+        DispatchResult result = manager.dispatch(sender, manager.resolve("lookup"), "alice", "bob");
+
+        assertTrue(result.isSuccess());
+        assertEquals(1, counting.parses);
+        assertEquals(Collections.nCopies(2, "alice#1"), read);
+    }
+
+    @Test
+    public void malformedTokensFailBeforeTheExecutorRuns() {
+        new AuroraCommand("give", manager)
+                .addArgument("amount", "integer")
+                .addLazyArguments()
+                .addExecution(CommandSender.class, (s, context) -> executions++)
+                .register();
+
+        DispatchResult result = manager.dispatch(sender, manager.resolve("give"), "abc");
+
+        assertEquals(CommandOutcome.PARSE_ERROR, result.getOutcome());
+        assertEquals("§c'abc' is not a valid number!", result.getMessage());
+        assertEquals(0, executions);
+    }
+
+    @Test
+    public void failureOnFirstReadIsANormalParseError() {
+        new AuroraCommand("give", manager)
+                .addArgument("amount", "integer")
+                .addLazyArguments()
+                .addExecution(CommandSender.class, (s, context) -> {
+                    executions++;
+                    read.add(context.getArgument("amount"));
+                })
+                .register();
+
+        DispatchResult result = manager.dispatch(sender, manager.resolve("give"), "99999999999");
+
+        assertEquals(CommandOutcome.PARSE_ERROR, result.getOutcome());
+        assertEquals("§c'99999999999' is not a valid number!", result.getMessage());
+        assertEquals(1, executions);
+        assertTrue(read.isEmpty());
+    }
+
+    @Test
+    public void failureInIncrementalExecutorIsAParseError() {
+        new AuroraCommand("fill", manager)
+                .addArgument("size", "integer")
+                .addLazyArguments()
+                .addIncrementalExecution(CommandSender.class, (s, context) -> {
+                    read.add(context.getArgument("size"));
+                    return () -> true;
+                })
+                .register();
+
+        DispatchResult result = manager.dispatch(sender, manager.resolve("fill"), "99999999999");
+
+        assertEquals(CommandOutcome.PARSE_ERROR, result.getOutcome());
+        assertEquals(0, manager.getTaskScheduler().getRunningTaskCount());
+    }
+
+    @Test
+    public void failureWhileBuildingTheCacheKeyIsAParseError() {
+        new AuroraCommand("top", manager)
+                .addArgument("page", "integer")
+                .addLazyArguments()
+                .addResultCache(60)
+                .addExecution(CommandSender.class, (s, context) -> executions++)
+                .register();
+
+        DispatchResult result = manager.dispatch(sender, manager.resolve("top"), "99999999999");
+
+        assertEquals(CommandOutcome.PARSE_ERROR, result.getOutcome());
+        assertEquals(0, executions);
+    }
+
+    private static class CountingType implements ArgumentType<String> {
+        private int parses;
+
+        @Override
+        public String getName() {
+            return "counting";
+        }
+
+        @Override
+        public String parse(CommandSender sender, String input) {
+            return input + "#" + (++parses);
+        }
+
+        @Override
+        public List<String> getCompletions(CommandSender sender) {
+            return Collections.emptyList();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package dev.aurora.Command;
+
+import dev.aurora.Execption.ArgumentParseException;
+import dev.aurora.Manager.CommandManager;
+import dev.aurora.TestKit.FakeCommandSender;
+import dev.aurora.TestKit.FakePlugin;
+import dev.aurora.TestKit.FakeServer;
+import dev.aurora.struct.CommandOutcome;
+import org.bukkit.command.CommandSender;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class OverloadTest {
+    private CommandManager manager;
+    private CommandSender sender;
+    private final List<String> calls = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        FakeServer.get().reset();
+        manager = new CommandManager(new FakePlugin("OverloadTest"));
+        sender = new FakeCommandSender("Console", CommandSender.class).setOp(true).asSender();
+    }
+
+    @Test
+    public void picksSignatureByShape() throws ArgumentParseException {
+        AuroraCommand command = new AuroraCommand("give", manager)
+                .addArgument("amount", "integer")
+                .addExecution(CommandSender.class, (s, context) -> calls.add("amount " + context.getArgument("amount")))
+                .addOverload("<enabled:boolean>", (s, context) -> calls.add("enabled " + context.getArgument("enabled")));
+
+        assertEquals(CommandOutcome.SUCCESS, command.execute(sender, new String[]{"5"}));
+        assertEquals(CommandOutcome.SUCCESS, command.execute(sender, new String[]{"true"}));
+        assertEquals("amount 5", calls.get(0));
+        assertEquals("enabled true", calls.get(1));
+    }
+
+    @Test
+    public void includesExecutionSetAfterSignaturesWereCompiled() throws ArgumentParseException {
+        AuroraCommand command = new AuroraCommand("give", manager)
+                .addArgument("amount", "integer")
+                .addOverload("<enabled:boolean>", (s, context) -> calls.add("enabled"));
+        command.getTabCompletions(sender, new String[]{""});
+
+        command.addExecution(CommandSender.class, (s, context) -> calls.add("amount"));
+
+        assertEquals(CommandOutcome.SUCCESS, command.execute(sender, new String[]{"5"}));
+        assertEquals("amount", calls.get(0));
+    }
+
+    @Test
+    public void usageListsExecutionSetAfterUsageWasBuilt() {
+        AuroraCommand command = new AuroraCommand("give", manager)
+                .addArgument("amount", "integer")
+                .addOverload("<enabled:boolean>", (s, context) -> { });
+        assertEquals("<enabled>", command.getUsage());
+
+        command.addExecution(CommandSender.class, (s, context) -> { });
+
+        assertEquals("<amount> | <enabled>", command.getUsage());
+    }
+}
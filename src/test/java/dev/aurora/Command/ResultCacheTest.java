@@ -0,0 +1,149 @@
+package dev.aurora.Command;
+
+import dev.aurora.Execption.ArgumentParseException;
+import dev.aurora.Manager.CommandManager;
+import dev.aurora.TestKit.FakePlayer;
+import dev.aurora.TestKit.FakePlugin;
+import dev.aurora.TestKit.FakeServer;
+import dev.aurora.struct.CommandOutcome;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ResultCacheTest {
+    private CommandManager manager;
+    private final List<CommandSender> executedBy = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        FakeServer.get().reset();
+        manager = new CommandManager(new FakePlugin("CacheTest"));
+    }
+
+    @Test
+    public void replaysRepliesAndPassesTheRealSender() throws ArgumentParseException {
+        AuroraCommand command = new AuroraCommand("top", manager)
+                .addArgument("page", "integer")
+                .addExecution(Player.class, (sender, context) -> {
+                    executedBy.add(sender);
+                    context.reply("Page " + context.getArgument("page"));
+                })
+                .addResultCache(60);
+        FakePlayer alice = new FakePlayer("Alice");
+        FakePlayer bob = new FakePlayer("Bob");
+
+        command.execute(alice.asPlayer(), new String[]{"1"});
+        command.execute(bob.asPlayer(), new String[]{"1"});
+        command.execute(bob.asPlayer(), new String[]{"2"});
+
+        assertEquals(2, executedBy.size());
+        assertSame(alice.asPlayer(), executedBy.get(0));
+        assertEquals(Arrays.asList("Page 1"), alice.getMessages());
+        assertEquals(Arrays.asList("Page 1", "Page 2"), bob.getMessages());
+    }
+
+    @Test
+    public void doesNotCacheExecutionsWithoutReplies() throws ArgumentParseException {
+        AuroraCommand command = new AuroraCommand("top", manager)
+                .addExecution(CommandSender.class, (sender, context) -> {
+                    executedBy.add(sender);
+                    sender.sendMessage("direct");
+                })
+                .addResultCache(60);
+        FakePlayer alice = new FakePlayer("Alice");
+        FakePlayer bob = new FakePlayer("Bob");
+
+        command.execute(alice.asPlayer(), new String[0]);
+        command.execute(bob.asPlayer(), new String[0]);
+
+        assertEquals(2, executedBy.size());
+        assertEquals(Collections.singletonList("direct"), bob.getMessages());
+    }
+
+    @Test
+    public void waiterReceivesTheResultOfTheRunningExecution() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AuroraCommand command = new AuroraCommand("top", manager)
+                .addExecution(CommandSender.class, (sender, context) -> {
+                    executedBy.add(sender);
+                    entered.countDown();
+                    await(release);
+                    context.reply("Top 10");
+                })
+                .addResultCache(60);
+        FakePlayer alice = new FakePlayer("Alice");
+        FakePlayer bob = new FakePlayer("Bob");
+
+        Thread first = runAsync(command, alice);
+        entered.await(5, TimeUnit.SECONDS);
+        assertEquals(CommandOutcome.DEFERRED, command.execute(bob.asPlayer(), new String[0]));
+        assertTrue(bob.getMessages().isEmpty());
+        release.countDown();
+        first.join(5000);
+
+        assertEquals(1, executedBy.size());
+        assertEquals(Collections.singletonList("Top 10"), bob.getMessages());
+    }
+
+    @Test
+    public void waiterRunsItselfWhenTheRunningExecutionFails() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AuroraCommand command = new AuroraCommand("top", manager)
+                .addExecution(CommandSender.class, (sender, context) -> {
+                    executedBy.add(sender);
+                    if (executedBy.size() == 1) {
+                        entered.countDown();
+                        await(release);
+                        throw new IllegalStateException("database down");
+                    }
+                    context.reply("Top 10");
+                })
+                .addResultCache(60);
+        FakePlayer alice = new FakePlayer("Alice");
+        FakePlayer bob = new FakePlayer("Bob");
+
+        Thread first = runAsync(command, alice);
+        entered.await(5, TimeUnit.SECONDS);
+        assertEquals(CommandOutcome.DEFERRED, command.execute(bob.asPlayer(), new String[0]));
+        release.countDown();
+        first.join(5000);
+
+        assertEquals(2, executedBy.size());
+        assertSame(bob.asPlayer(), executedBy.get(1));
+        assertEquals(Collections.singletonList("Top 10"), bob.getMessages());
+    }
+
+    private static Thread runAsync(AuroraCommand command, FakePlayer player) {
+        Thread thread = new Thread(() -> {
+            try {
+                command.execute(player.asPlayer(), new String[0]);
+            } catch (ArgumentParseException | RuntimeException ignored) {
+                // The failing execution is the point of the test
+            }
+        });
+        thread.start();
+        return thread;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
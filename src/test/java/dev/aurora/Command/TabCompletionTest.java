@@ -0,0 +1,64 @@
+package dev.aurora.Command;
+
+import dev.aurora.Manager.CommandManager;
+import dev.aurora.TestKit.FakeCommandSender;
+import dev.aurora.TestKit.FakePlugin;
+import dev.aurora.TestKit.FakeServer;
+import org.bukkit.command.CommandSender;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+
+public class TabCompletionTest {
+    private CommandManager manager;
+    private CommandSender sender;
+
+    @Before
+    public void setUp() {
+        FakeServer.get().reset();
+        manager = new CommandManager(new FakePlugin("CompletionTest"));
+        sender = new FakeCommandSender("Console", CommandSender.class).setOp(true).asSender();
+    }
+
+    @Test
+    public void completesSpecArgumentsFromCompiledPlan() {
+        AuroraCommand command = manager.createCommand("toggle <value:boolean> <count:integer>")
+                .addExecution(CommandSender.class, (s, context) -> { });
+
+        assertEquals(Collections.singletonList("true"), command.getTabCompletions(sender, new String[]{"t"}));
+        assertEquals(Arrays.asList("true", "false"), command.getTabCompletions(sender, new String[]{""}));
+    }
+
+    @Test
+    public void routesToSubcommandBeforeParentTypes() {
+        manager.createCommand("eco set <enabled:boolean>");
+        AuroraCommand root = manager.createCommand("eco <verbose:boolean>");
+
+        assertEquals(Arrays.asList("set", "true"), root.getTabCompletions(sender, new String[]{""}).subList(0, 2));
+        assertEquals(Collections.singletonList("false"), root.getTabCompletions(sender, new String[]{"set", "f"}));
+    }
+
+    @Test
+    public void completesOverloadSignatures() {
+        AuroraCommand command = new AuroraCommand("pick", manager)
+                .addArgument("value", "boolean")
+                .addExecution(CommandSender.class, (s, context) -> { })
+                .addOverload("<count:integer>", (s, context) -> { });
+
+        assertEquals(Collections.singletonList("false"), command.getTabCompletions(sender, new String[]{"f"}));
+    }
+
+    @Test
+    public void subcommandOptionsAreNotShadowedByParentOptions() {
+        manager.createCommand("warp set <public:boolean>").addSwitch("force", 'f');
+        AuroraCommand root = manager.createCommand("warp").addSwitch("silent", 's');
+
+        assertEquals(Collections.singletonList("--force"), root.getTabCompletions(sender, new String[]{"set", "--"}));
+        assertEquals(Collections.singletonList("--silent"), root.getTabCompletions(sender, new String[]{"--"}));
+        assertEquals(Collections.singletonList("true"), root.getTabCompletions(sender, new String[]{"set", "-f", "t"}));
+    }
+}
@@ -0,0 +1,85 @@
+package dev.aurora.Manager;
+
+import dev.aurora.Command.AuroraCommand;
+import dev.aurora.TestKit.FakeCommandSender;
+import dev.aurora.TestKit.FakePlugin;
+import dev.aurora.TestKit.FakeServer;
+import dev.aurora.struct.SlowCommandReport;
+import org.bukkit.command.CommandSender;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CommandWatchdogTest {
+    private CommandManager manager;
+    private CommandSender sender;
+
+    @Before
+    public void setUp() {
+        FakeServer.get().reset();
+        manager = new CommandManager(new FakePlugin("WatchdogTest"));
+        sender = new FakeCommandSender("Console", CommandSender.class).setOp(true).asSender();
+        manager.enableWatchdog(20, 2);
+    }
+
+    @After
+    public void tearDown() {
+        manager.shutdown();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    public void samplesTheOuterDispatchWhileANestedOneRuns() {
+        new AuroraCommand("inner", manager)
+                .addExecution(CommandSender.class, (s, context) -> sleep(150))
+                .register();
+        new AuroraCommand("outer", manager)
+                .addExecution(CommandSender.class, (s, context) -> manager.dispatch(s, manager.resolve("inner")))
+                .register();
+
+        assertTrue(manager.dispatch(sender, manager.resolve("outer")).isSuccess());
+
+        Map<String, SlowCommandReport> reports = new HashMap<>();
+        for (SlowCommandReport report : manager.getSlowCommandReports()) {
+            reports.put(report.getCommand(), report);
+        }
+        assertEquals(2, reports.size());
+        SlowCommandReport outer = reports.get("outer");
+        assertTrue(outer.getSampleCount() > 0);
+        assertTrue(outer.getHottestStack().contains("CommandWatchdogTest.sleep"));
+        assertTrue(reports.get("inner").getSampleCount() > 0);
+    }
+
+    @Test
+    public void fastNestedDispatchesAreNotReported() {
+        new AuroraCommand("inner", manager)
+                .addExecution(CommandSender.class, (s, context) -> { })
+                .register();
+        new AuroraCommand("outer", manager)
+                .addExecution(CommandSender.class, (s, context) -> {
+                    manager.dispatch(s, manager.resolve("inner"));
+                    sleep(100);
+                })
+                .register();
+
+        manager.dispatch(sender, manager.resolve("outer"));
+
+        assertEquals(1, manager.getSlowCommandReports().size());
+        SlowCommandReport outer = manager.getSlowCommandReports().get(0);
+        assertEquals("outer", outer.getCommand());
+        assertTrue(outer.getSampleCount() > 0);
+    }
+}
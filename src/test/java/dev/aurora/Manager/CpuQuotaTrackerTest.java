@@ -0,0 +1,111 @@
+package dev.aurora.Manager;
+
+import dev.aurora.struct.QuotaAction;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CpuQuotaTrackerTest {
+    private final CpuQuotaTracker tracker = new CpuQuotaTracker();
+    private final UUID player = UUID.randomUUID();
+
+    @Test
+    public void chargesUsageToTheGroup() {
+        CpuQuotaTracker.Group economy = tracker.setQuota("economy", 1_000_000L, 60_000L, QuotaAction.REJECT);
+        CpuQuotaTracker.Group chat = tracker.getGroup("chat");
+
+        tracker.record(player, economy, 400_000L);
+        tracker.record(player, economy, 300_000L);
+
+        assertEquals(700_000L, tracker.getUsedNanos(player, economy));
+        assertEquals(0L, tracker.getUsedNanos(player, chat));
+        assertEquals(0L, tracker.getWaitMillis(player, economy));
+    }
+
+    @Test
+    public void waitsOnceTheBudgetIsUsedUp() {
+        CpuQuotaTracker.Group group = tracker.setQuota("economy", 1_000_000L, 60_000L, QuotaAction.REJECT);
+
+        tracker.record(player, group, 2_000_000L);
+
+        long wait = tracker.getWaitMillis(player, group);
+        assertTrue(wait > 0 && wait <= 120_000L);
+    }
+
+    @Test
+    public void zeroBudgetWithoutUsageDoesNotFail() {
+        CpuQuotaTracker.Group group = tracker.setQuota("blocked", 0L, 1000L, QuotaAction.REJECT);
+
+        assertEquals(0L, tracker.getWaitMillis(player, group));
+        tracker.record(player, group, 1L);
+        assertTrue(tracker.getWaitMillis(player, group) > 0);
+    }
+
+    @Test
+    public void forgetDropsUsage() {
+        CpuQuotaTracker.Group group = tracker.setQuota("economy", 1_000_000L, 60_000L, QuotaAction.REJECT);
+        tracker.record(player, group, 5_000_000L);
+
+        tracker.forget(player);
+
+        assertEquals(0L, tracker.getUsedNanos(player, group));
+        assertEquals(0L, tracker.getWaitMillis(player, group));
+    }
+
+    @Test
+    public void forgetReleasesDeferrals() {
+        CpuQuotaTracker.Group economy = tracker.getGroup("economy");
+        CpuQuotaTracker.Group chat = tracker.getGroup("chat");
+        UUID other = UUID.randomUUID();
+        tracker.tryDefer(player, economy);
+        tracker.tryDefer(player, chat);
+        tracker.tryDefer(other, economy);
+
+        tracker.forget(player);
+
+        assertTrue(tracker.tryDefer(player, economy));
+        assertTrue(tracker.tryDefer(player, chat));
+        assertFalse(tracker.tryDefer(other, economy));
+    }
+
+    @Test
+    public void enablesCpuTimeOnlyOnceAQuotaIsSet() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(threads.isThreadCpuTimeSupported());
+        boolean enabled = threads.isThreadCpuTimeEnabled();
+        threads.setThreadCpuTimeEnabled(false);
+        try {
+            CpuQuotaTracker quotas = new CpuQuotaTracker();
+            quotas.getGroup("chat");
+            assertFalse(threads.isThreadCpuTimeEnabled());
+
+            quotas.setQuota("chat", 1_000_000L, 1000L, QuotaAction.REJECT);
+            assertTrue(threads.isThreadCpuTimeEnabled());
+        } finally {
+            threads.setThreadCpuTimeEnabled(enabled);
+        }
+    }
+
+    @Test
+    public void allowsOneDeferralPerPlayerAndGroup() {
+        CpuQuotaTracker.Group group = tracker.getGroup("economy");
+
+        assertTrue(tracker.tryDefer(player, group));
+        assertFalse(tracker.tryDefer(player, group));
+        tracker.releaseDeferral(player, group);
+        assertTrue(tracker.tryDefer(player, group));
+    }
+
+    @Test
+    public void groupNamesAreCaseInsensitive() {
+        assertSame(tracker.getGroup("Economy"), tracker.getGroup("economy"));
+    }
+}
@@ -0,0 +1,111 @@
+package dev.aurora.Manager;
+
+import dev.aurora.Audit.AuditLogReader;
+import dev.aurora.Audit.AuditRecord;
+import dev.aurora.Command.AuroraCommand;
+import dev.aurora.Command.CommandPath;
+import dev.aurora.TestKit.FakeCommandSender;
+import dev.aurora.TestKit.FakePlugin;
+import dev.aurora.TestKit.FakeServer;
+import dev.aurora.struct.CommandContext;
+import dev.aurora.struct.CommandOutcome;
+import dev.aurora.struct.DispatchResult;
+import org.bukkit.command.CommandSender;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class DirectDispatchTest {
+    private CommandManager manager;
+    private FakeCommandSender console;
+    private CommandContext lastContext;
+
+    @Before
+    public void setUp() {
+        FakeServer.get().reset();
+        manager = new CommandManager(new FakePlugin("DispatchTest"));
+        console = new FakeCommandSender("Console", CommandSender.class).setOp(true);
+        new AuroraCommand("kick", manager)
+                .addArgument("reason", "string")
+                .addSwitch("silent", 's')
+                .addExecution(CommandSender.class, (sender, context) -> lastContext = context)
+                .register();
+    }
+
+    @Test
+    public void returnsFrameworkMessagesInsteadOfSendingThem() {
+        CommandPath path = manager.resolve("kick");
+
+        DispatchResult result = manager.dispatch(console.asSender(), path);
+
+        assertEquals(CommandOutcome.USAGE, result.getOutcome());
+        assertEquals(1, result.getMessages().size());
+        assertEquals(result.getMessages().get(0), result.getMessage());
+        assertTrue(console.getMessages().isEmpty());
+    }
+
+    @Test
+    public void successHasNoMessages() {
+        DispatchResult result = manager.dispatch(console.asSender(), manager.resolve("kick"), "spam", "-s");
+
+        assertTrue(result.isSuccess());
+        assertEquals(Collections.emptyList(), result.getMessages());
+        assertNull(result.getMessage());
+        assertEquals(Boolean.TRUE, lastContext.getArgument("silent"));
+    }
+
+    @Test
+    public void typedDispatchDefaultsSwitchesToFalse() {
+        Map<String, Object> values = new HashMap<>();
+        values.put("reason", "spam");
+
+        DispatchResult result = manager.dispatch(console.asSender(), manager.resolve("kick"), values);
+
+        assertTrue(result.isSuccess());
+        assertEquals(Boolean.FALSE, lastContext.getArgument("silent"));
+        assertEquals("spam", lastContext.getArgument("reason"));
+    }
+
+    @Test
+    public void typedDispatchRejectsWronglyTypedValues() {
+        Map<String, Object> values = new HashMap<>();
+        values.put("reason", 42);
+
+        DispatchResult result = manager.dispatch(console.asSender(), manager.resolve("kick"), values);
+
+        assertEquals(CommandOutcome.PARSE_ERROR, result.getOutcome());
+        assertTrue(result.getMessage().contains("reason"));
+        assertNull(lastContext);
+    }
+
+    @Test
+    public void typedDispatchAuditsTheValues() throws IOException {
+        File directory = Files.createTempDirectory("audit").toFile();
+        manager.enableAuditLog(directory);
+        Map<String, Object> values = new HashMap<>();
+        values.put("silent", true);
+        values.put("reason", "spam");
+
+        manager.dispatch(console.asSender(), manager.resolve("kick"), values);
+        manager.shutdown();
+
+        List<AuditRecord> records = new ArrayList<>();
+        new AuditLogReader(directory).scan(records::add);
+        assertEquals(1, records.size());
+        assertEquals("kick", records.get(0).getCommand());
+        assertEquals(Arrays.asList("reason=spam", "silent=true"), Arrays.asList(records.get(0).getArgs()));
+    }
+}
@@ -0,0 +1,113 @@
+package dev.aurora.Manager;
+
+import dev.aurora.Command.AuroraCommand;
+import dev.aurora.Command.CommandPath;
+import dev.aurora.TestKit.FakeCommandSender;
+import dev.aurora.TestKit.FakePlugin;
+import dev.aurora.TestKit.FakeServer;
+import dev.aurora.struct.ArgumentType;
+import dev.aurora.struct.ParsePlan;
+import dev.aurora.struct.ParsedArguments;
+import org.bukkit.command.CommandSender;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class ParseCacheTest {
+    private FakePlugin plugin;
+    private CommandManager manager;
+    private CommandSender sender;
+    private final CountingType stable = new CountingType(true);
+    private final CountingType unstable = new CountingType(false);
+    private final List<Object> executed = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        FakeServer.get().reset();
+        plugin = new FakePlugin("ParseCacheTest");
+        manager = new CommandManager(plugin);
+        sender = new FakeCommandSender("Console", CommandSender.class).setOp(true).asSender();
+        AuroraCommand set = new AuroraCommand("set", manager)
+                .addArgument("key", stable)
+                .addArgument("value", unstable)
+                .addExecution(CommandSender.class, (s, context) -> executed.add(context.getArgument("value")));
+        new AuroraCommand("config", manager).addSubCommand(set).register();
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedLines() {
+        ParseCache cache = new ParseCache(2);
+        ParsedArguments arguments = new ParsedArguments(new ParsePlan(new String[0], new ArgumentType<?>[0], 0), new String[0], new Object[0]);
+        CommandPath path = new CommandPath(new AuroraCommand[]{new AuroraCommand("a", manager)});
+
+        cache.put("a", path, arguments);
+        cache.put("b", path, arguments);
+        cache.get("a");
+        cache.put("c", path, arguments);
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals("config set x", ParseCache.keyOf("config", new String[]{"set", "x"}));
+    }
+
+    @Test
+    public void reparsesOnlyUnstableArgumentsOnHits() {
+        manager.enableParseCache(16);
+
+        plugin.dispatch(sender, "config set mode fast");
+        plugin.dispatch(sender, "config set mode fast");
+
+        assertEquals(1, stable.parses);
+        assertEquals(2, unstable.parses);
+        assertEquals(2, executed.size());
+        assertEquals("fast#2", executed.get(1));
+    }
+
+    @Test
+    public void clearingDropsCachedLines() {
+        manager.enableParseCache(16);
+
+        plugin.dispatch(sender, "config set mode fast");
+        manager.clearParseCache();
+        plugin.dispatch(sender, "config set mode fast");
+
+        assertEquals(2, stable.parses);
+    }
+
+    private static class CountingType implements ArgumentType<String> {
+        private final boolean isStable;
+        private int parses;
+
+        CountingType(boolean isStable) {
+            this.isStable = isStable;
+        }
+
+        @Override
+        public String getName() {
+            return "counting";
+        }
+
+        @Override
+        public String parse(CommandSender sender, String input) {
+            return input + "#" + (++parses);
+        }
+
+        @Override
+        public List<String> getCompletions(CommandSender sender) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public boolean isStable() {
+            return isStable;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package dev.aurora.Manager;
+
+import dev.aurora.Command.AuroraCommand;
+import dev.aurora.TestKit.FakeCommandSender;
+import dev.aurora.TestKit.FakePlugin;
+import dev.aurora.TestKit.FakeServer;
+import dev.aurora.struct.IncrementalTask;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.ConsoleCommandSender;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ScriptRunTaskTest {
+    private FakePlugin plugin;
+    private CommandManager manager;
+    private FakeCommandSender console;
+    private File script;
+    private final List<String> notes = new ArrayList<>();
+
+    @Before
+    public void setUp() throws IOException {
+        FakeServer.get().reset();
+        plugin = new FakePlugin("ScriptTest");
+        manager = new CommandManager(plugin);
+        manager.enableScriptRunner();
+        new AuroraCommand("note", manager)
+                .addArgument("text", "string")
+                .addExecution(CommandSender.class, (sender, context) -> notes.add(context.getArgument("text")))
+                .register();
+        console = new FakeCommandSender("CONSOLE", ConsoleCommandSender.class).setOp(true);
+        script = new File(Files.createTempDirectory("scripts").toFile(), "script.txt");
+    }
+
+    @Test
+    public void runsLinesAndReportsFailuresWithFileAndLine() throws IOException {
+        write("note a", "# comment", "", "note", "nosuch x", "/note b");
+
+        run("");
+
+        assertEquals(Arrays.asList("a", "b"), notes);
+        assertTrue(hasMessage("script.txt:4: "));
+        assertTrue(hasMessage("script.txt:5: Unknown command: nosuch"));
+        assertTrue(hasMessage("ran 4 lines"));
+        assertTrue(hasMessage("2 failed"));
+        assertFalse(checkpoint().exists());
+    }
+
+    @Test
+    public void resumesFromCheckpoint() throws IOException {
+        write("note a", "note b", "note c");
+        Files.write(checkpoint().toPath(), "2".getBytes(StandardCharsets.UTF_8));
+
+        run("");
+
+        assertEquals(Arrays.asList("c"), notes);
+        assertTrue(hasMessage("from line 3"));
+        assertFalse(checkpoint().exists());
+    }
+
+    @Test
+    public void restartIgnoresCheckpoint() throws IOException {
+        write("note a", "note b", "note c");
+        Files.write(checkpoint().toPath(), "2".getBytes(StandardCharsets.UTF_8));
+
+        run(" --restart");
+
+        assertEquals(Arrays.asList("a", "b", "c"), notes);
+    }
+
+    @Test
+    public void stopCheckpointsOnlyScriptRuns() throws IOException {
+        write("note a", "note b", "note c", "note d");
+        manager.setTickBudget(0L);
+        IncrementalTask endless = () -> false;
+        manager.getTaskScheduler().submit(console.asSender(), "endless", endless);
+
+        plugin.dispatch(console.asSender(), "aurora run " + script.getPath());
+        FakeServer.get().getScheduler().tick(4);
+        plugin.dispatch(console.asSender(), "aurora stop");
+
+        assertEquals(1, manager.getTaskScheduler().getRunningTaskCount());
+        assertTrue(hasMessage("stopped after line " + notes.size()));
+        assertEquals(Long.toString(notes.size()), new String(Files.readAllBytes(checkpoint().toPath()), StandardCharsets.UTF_8));
+
+        int done = notes.size();
+        manager.cancelTasks(console.asSender());
+        run("");
+        assertEquals(Arrays.asList("a", "b", "c", "d"), notes);
+        assertTrue(done > 0 && done < 4);
+    }
+
+    @Test
+    public void progressCountsBytesOfCrlfAndNonAsciiLines() throws IOException {
+        byte[] first = "note éé\r\n".getBytes(StandardCharsets.UTF_8);
+        byte[] second = "note b\r\n".getBytes(StandardCharsets.UTF_8);
+        byte[] content = new byte[first.length + second.length];
+        System.arraycopy(first, 0, content, 0, first.length);
+        System.arraycopy(second, 0, content, first.length, second.length);
+        Files.write(script.toPath(), content);
+        ScriptRunTask task = new ScriptRunTask(manager, console.asSender(), script, true);
+
+        task.step();
+        assertEquals((double) first.length / content.length, task.getProgress(), 1e-9);
+        task.step();
+        assertEquals(1.0, task.getProgress(), 1e-9);
+        assertTrue(task.step());
+        assertEquals(Arrays.asList("éé", "b"), notes);
+    }
+
+    private void write(String... lines) throws IOException {
+        Files.write(script.toPath(), Arrays.asList(lines), StandardCharsets.UTF_8);
+    }
+
+    private void run(String options) {
+        plugin.dispatch(console.asSender(), "aurora run " + script.getPath() + options);
+        FakeServer.get().getScheduler().runUntilIdle(1000);
+    }
+
+    private File checkpoint() {
+        return new File(script.getPath() + ".checkpoint");
+    }
+
+    private boolean hasMessage(String part) {
+        for (String message : console.getMessages()) {
+            if (message.contains(part)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,186 @@
+package dev.aurora.Manager;
+
+import dev.aurora.TestKit.FakeCommandSender;
+import dev.aurora.TestKit.FakePlayer;
+import dev.aurora.TestKit.FakePlugin;
+import dev.aurora.TestKit.FakeScheduler;
+import dev.aurora.TestKit.FakeServer;
+import dev.aurora.struct.IncrementalTask;
+import org.bukkit.command.CommandSender;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TickBudgetSchedulerTest {
+    private FakePlugin plugin;
+    private CommandManager manager;
+    private TickBudgetScheduler scheduler;
+    private FakeScheduler ticks;
+    private FakeCommandSender console;
+
+    @Before
+    public void setUp() {
+        FakeServer.get().reset();
+        plugin = new FakePlugin("SchedulerTest");
+        manager = new CommandManager(plugin);
+        scheduler = manager.getTaskScheduler();
+        ticks = FakeServer.get().getScheduler();
+        console = new FakeCommandSender("Console", CommandSender.class);
+    }
+
+    @Test
+    public void stepsTasksRoundRobin() {
+        List<String> order = new ArrayList<>();
+        scheduler.setTickBudgetNanos(0L);
+        scheduler.submit(console.asSender(), "a", new CountingTask(order, "a", 2));
+        scheduler.submit(console.asSender(), "b", new CountingTask(order, "b", 2));
+
+        ticks.tick(4);
+
+        assertEquals(Arrays.asList("a", "b", "a", "b"), order);
+        assertEquals(0, scheduler.getRunningTaskCount());
+        assertTrue(console.getMessages().contains("§a/a completed in 3 ticks."));
+    }
+
+    @Test
+    public void sharesOneBudgetAcrossTasks() {
+        List<String> order = new ArrayList<>();
+        scheduler.setTickBudgetNanos(2_000_000L);
+        scheduler.submit(console.asSender(), "a", new BusyTask(order, "a"));
+        scheduler.submit(console.asSender(), "b", new BusyTask(order, "b"));
+
+        // Each step takes at least 1ms, so a tick fits at most two steps; a slow machine may fit only one
+        for (int tick = 0; tick < 4; tick++) {
+            int before = order.size();
+            ticks.tick();
+            int steps = order.size() - before;
+            assertTrue("steps in one tick: " + steps, steps >= 1 && steps <= 2);
+        }
+
+        for (int i = 0; i < order.size(); i++) {
+            assertEquals(i % 2 == 0 ? "a" : "b", order.get(i));
+        }
+        assertEquals(2, scheduler.getRunningTaskCount());
+    }
+
+    @Test
+    public void reportsProgressEveryInterval() {
+        scheduler.setTickBudgetNanos(0L);
+        scheduler.setProgressIntervalTicks(2);
+        scheduler.submit(console.asSender(), "fill", new CountingTask(new ArrayList<>(), "fill", 10));
+
+        ticks.tick(4);
+
+        assertEquals(2, console.getMessages().stream().filter(message -> message.contains("% complete")).count());
+    }
+
+    @Test
+    public void rejectsSecondTaskOfTheSameCommand() {
+        assertTrue(scheduler.submit(console.asSender(), "fill", () -> false));
+        assertFalse(scheduler.submit(console.asSender(), "fill", () -> false));
+        assertTrue(scheduler.submit(console.asSender(), "scan", () -> false));
+    }
+
+    @Test
+    public void failingTaskIsCancelledAndReported() {
+        boolean[] cancelled = new boolean[1];
+        scheduler.submit(console.asSender(), "fill", new IncrementalTask() {
+            @Override
+            public boolean step() {
+                throw new IllegalStateException("world unloaded");
+            }
+
+            @Override
+            public void onCancel() {
+                cancelled[0] = true;
+            }
+        });
+
+        ticks.tick();
+
+        assertTrue(cancelled[0]);
+        assertEquals(0, scheduler.getRunningTaskCount());
+        assertTrue(console.getMessages().contains("§c/fill failed: world unloaded"));
+    }
+
+    @Test
+    public void quittingCancelsThePlayersTasks() {
+        FakePlayer alice = new FakePlayer("Alice");
+        scheduler.submit(alice.asPlayer(), "fill", () -> false);
+        scheduler.submit(console.asSender(), "fill", () -> false);
+
+        new PlayerSessionListener(scheduler, manager.getCpuQuotas()).onQuit(new PlayerQuitEvent(alice.asPlayer(), "left"));
+
+        assertEquals(1, scheduler.getRunningTaskCount());
+    }
+
+    @Test
+    public void sendersCancelTheirOwnTasksByCommand() {
+        manager.enableTaskCancelCommand();
+        FakePlayer alice = new FakePlayer("Alice");
+        scheduler.submit(alice.asPlayer(), "fill", () -> false);
+        scheduler.submit(alice.asPlayer(), "scan", () -> false);
+        scheduler.submit(console.asSender(), "fill", () -> false);
+
+        plugin.dispatch(alice.asPlayer(), "cancel fill");
+        assertEquals(2, scheduler.getRunningTaskCount());
+        plugin.dispatch(alice.asPlayer(), "cancel");
+        assertEquals(1, scheduler.getRunningTaskCount());
+        plugin.dispatch(alice.asPlayer(), "cancel");
+
+        assertEquals(Arrays.asList("§eCancelled 1 running command(s).", "§eCancelled 1 running command(s).",
+                "§cYou have no running commands to cancel."), alice.getMessages());
+    }
+
+    private static class CountingTask implements IncrementalTask {
+        private final List<String> order;
+        private final String name;
+        private final int steps;
+        private int done;
+
+        CountingTask(List<String> order, String name, int steps) {
+            this.order = order;
+            this.name = name;
+            this.steps = steps;
+        }
+
+        @Override
+        public boolean step() {
+            order.add(name);
+            return ++done >= steps;
+        }
+
+        @Override
+        public double getProgress() {
+            return (double) done / steps;
+        }
+    }
+
+    private static class BusyTask implements IncrementalTask {
+        private final List<String> order;
+        private final String name;
+
+        BusyTask(List<String> order, String name) {
+            this.order = order;
+            this.name = name;
+        }
+
+        @Override
+        public boolean step() {
+            order.add(name);
+            long end = System.nanoTime() + 1_000_000L;
+            while (System.nanoTime() < end) {
+                Thread.yield();
+            }
+            return false;
+        }
+    }
+}
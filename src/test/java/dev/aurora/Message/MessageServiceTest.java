@@ -0,0 +1,74 @@
+package dev.aurora.Message;
+
+import dev.aurora.Manager.CommandManager;
+import dev.aurora.TestKit.FakeCommandSender;
+import dev.aurora.TestKit.FakeConfiguration;
+import dev.aurora.TestKit.FakePlugin;
+import dev.aurora.TestKit.FakeServer;
+import org.bukkit.command.CommandSender;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class MessageServiceTest {
+    private MessageService messages;
+
+    @Before
+    public void setUp() {
+        messages = new MessageService();
+    }
+
+    @Test
+    public void rendersTheBuiltInTemplates() {
+        assertEquals("§cCommand on cooldown! Wait 3 seconds.", messages.format((String) null, MessageKey.COOLDOWN, 3));
+        assertEquals("§cUsage: /give <amount>", messages.format((String) null, MessageKey.USAGE, "give", "<amount>"));
+    }
+
+    @Test
+    public void constantTemplatesAreReturnedAsIs() {
+        messages.setTemplate(MessageKey.NO_PERMISSION, "Denied");
+
+        assertSame(messages.format((String) null, MessageKey.NO_PERMISSION), messages.format((String) null, MessageKey.NO_PERMISSION));
+    }
+
+    @Test
+    public void localesOverrideAndFallBackPerMessage() {
+        messages.setTemplate("de-DE", MessageKey.COOLDOWN, "Warte {seconds} Sekunden.");
+
+        assertEquals("Warte 5 Sekunden.", messages.format("de_de", MessageKey.COOLDOWN, 5));
+        assertEquals("Warte 5 Sekunden.", messages.format("DE-de", MessageKey.COOLDOWN, 5));
+        assertEquals("§cYou don't have permission!", messages.format("de_de", MessageKey.NO_PERMISSION));
+        assertEquals("§cCommand on cooldown! Wait 5 seconds.", messages.format("fr_fr", MessageKey.COOLDOWN, 5));
+    }
+
+    @Test
+    public void resolvesTheLocaleOfTheSender() {
+        CommandSender german = new FakeCommandSender("Hans", CommandSender.class).asSender();
+        CommandSender other = new FakeCommandSender("Jane", CommandSender.class).asSender();
+        messages.setTemplate("de_de", MessageKey.NO_PERMISSION, "Keine Berechtigung!");
+        messages.setLocaleResolver(sender -> sender == german ? "de_de" : null);
+
+        assertEquals("Keine Berechtigung!", messages.format(german, MessageKey.NO_PERMISSION));
+        assertEquals("§cYou don't have permission!", messages.format(other, MessageKey.NO_PERMISSION));
+    }
+
+    @Test
+    public void loadsDefaultsAndLocalesFromConfiguration() {
+        FakeServer.get().reset();
+        CommandManager manager = new CommandManager(new FakePlugin("MessageTest"));
+        manager.loadMessages(new FakeConfiguration("messages")
+                .set("no-permission", "Nope")
+                .set("cooldown", "Wait {seconds}s")
+                .set("unknown-key", "ignored")
+                .set("de_de.cooldown", "Warte {seconds}s")
+                .asSection());
+        MessageService loaded = manager.getMessages();
+
+        assertEquals("Nope", loaded.format((String) null, MessageKey.NO_PERMISSION));
+        assertEquals("Wait 2s", loaded.format((String) null, MessageKey.COOLDOWN, 2));
+        assertEquals("Warte 2s", loaded.format("de_de", MessageKey.COOLDOWN, 2));
+        assertEquals("Nope", loaded.format("de_de", MessageKey.NO_PERMISSION));
+    }
+}
@@ -0,0 +1,42 @@
+package dev.aurora.Message;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class MessageTemplateTest {
+
+    private static String render(MessageTemplate template, Object... args) {
+        StringBuilder buffer = new StringBuilder();
+        template.render(buffer, args);
+        return buffer.toString();
+    }
+
+    @Test
+    public void fillsPlaceholdersInDeclaredOrder() {
+        MessageTemplate template = MessageTemplate.compile("{b} then {a}, {b} again", "a", "b");
+
+        assertEquals("2 then 1, 2 again", render(template, 1, 2));
+        assertNull(template.getConstant());
+    }
+
+    @Test
+    public void keepsUnknownAndUnterminatedPlaceholders() {
+        MessageTemplate template = MessageTemplate.compile("{x} {a} {a", "a");
+
+        assertEquals("{x} 1 {a", render(template, 1));
+    }
+
+    @Test
+    public void missingValuesRenderEmpty() {
+        assertEquals("[]", render(MessageTemplate.compile("[{a}]", "a")));
+    }
+
+    @Test
+    public void templatesWithoutPlaceholdersAreConstant() {
+        assertEquals("plain {text}", MessageTemplate.compile("plain {text}").getConstant());
+        assertEquals("{a}", MessageTemplate.compile("{a}", "b").getConstant());
+        assertEquals("", MessageTemplate.compile("").getConstant());
+    }
+}
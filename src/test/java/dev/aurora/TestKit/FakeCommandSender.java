@@ -0,0 +1,141 @@
+package dev.aurora.TestKit;
+
+import org.bukkit.command.CommandSender;
+import org.bukkit.permissions.Permission;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A headless command sender that records every message it receives.
+ * Permissions are granted explicitly or through op status.
+ */
+public class FakeCommandSender implements InvocationHandler {
+    private final String name;
+    private final Set<String> permissions;
+    private final List<String> messages;
+    private final CommandSender sender;
+    private boolean op;
+    private boolean recording;
+
+    /**
+     * Creates a fake sender implementing the given sender interface.
+     *
+     * @param name       The sender name.
+     * @param senderType The interface to implement, e.g. ConsoleCommandSender.class.
+     */
+    public FakeCommandSender(String name, Class<? extends CommandSender> senderType) {
+        this.name = name;
+        this.permissions = new HashSet<>();
+        this.messages = Collections.synchronizedList(new ArrayList<>());
+        this.recording = true;
+        this.sender = FakeObjects.proxy(senderType, this);
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        Object objectResult = FakeObjects.handleObjectMethod(proxy, method, args, getClass().getSimpleName() + "{" + name + "}");
+        if (objectResult != null) {
+            return objectResult;
+        }
+        Object result = handle(method, args);
+        return result != null ? result : FakeObjects.defaultValue(method.getReturnType());
+    }
+
+    /**
+     * Handles a call on the proxied sender. Subclasses extend this for richer interfaces.
+     *
+     * @return The result, or null to fall back to a neutral default.
+     */
+    protected Object handle(Method method, Object[] args) {
+        switch (method.getName()) {
+            case "getName":
+                return name;
+            case "getServer":
+                return FakeServer.get().getServer();
+            case "isOp":
+                return op;
+            case "setOp":
+                op = (Boolean) args[0];
+                return null;
+            case "hasPermission":
+            case "isPermissionSet":
+                return hasPermission(args[0]);
+            case "sendMessage":
+                if (recording) {
+                    if (args[0] instanceof String[]) {
+                        Collections.addAll(messages, (String[]) args[0]);
+                    } else {
+                        messages.add((String) args[0]);
+                    }
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    private boolean hasPermission(Object permission) {
+        String node = permission instanceof Permission ? ((Permission) permission).getName() : String.valueOf(permission);
+        return op || permissions.contains(node.toLowerCase()) || permissions.contains("*");
+    }
+
+    public FakeCommandSender grant(String... nodes) {
+        for (String node : nodes) {
+            permissions.add(node.toLowerCase());
+        }
+        return this;
+    }
+
+    public FakeCommandSender revoke(String... nodes) {
+        for (String node : nodes) {
+            permissions.remove(node.toLowerCase());
+        }
+        return this;
+    }
+
+    public FakeCommandSender setOp(boolean op) {
+        this.op = op;
+        return this;
+    }
+
+    /**
+     * Sets whether received messages are kept. Load tests usually disable this to avoid unbounded growth.
+     *
+     * @param recording True to record messages.
+     * @return This sender for chaining.
+     */
+    public FakeCommandSender setRecording(boolean recording) {
+        this.recording = recording;
+        return this;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public CommandSender asSender() {
+        return sender;
+    }
+
+    public List<String> getMessages() {
+        synchronized (messages) {
+            return new ArrayList<>(messages);
+        }
+    }
+
+    public String getLastMessage() {
+        synchronized (messages) {
+            return messages.isEmpty() ? null : messages.get(messages.size() - 1);
+        }
+    }
+
+    public void clearMessages() {
+        messages.clear();
+    }
+}
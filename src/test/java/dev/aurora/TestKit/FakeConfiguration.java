@@ -0,0 +1,117 @@
+package dev.aurora.TestKit;
+
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An in-memory configuration holding values under dotted paths, e.g. {@code de_de.no-permission}.
+ * Sections are derived from the paths, so setting a nested value creates its parent sections.
+ */
+public class FakeConfiguration {
+    private final String name;
+    private final Map<String, Object> values;
+
+    /**
+     * Creates an empty configuration.
+     *
+     * @param name The path of the root section, as reported by getCurrentPath.
+     */
+    public FakeConfiguration(String name) {
+        this.name = name;
+        this.values = new LinkedHashMap<>();
+    }
+
+    /**
+     * Sets a value.
+     *
+     * @param path  The dotted path.
+     * @param value The value.
+     * @return This FakeConfiguration for chaining.
+     */
+    public FakeConfiguration set(String path, Object value) {
+        values.put(path, value);
+        return this;
+    }
+
+    /**
+     * @return The root section as a Bukkit ConfigurationSection.
+     */
+    public ConfigurationSection asSection() {
+        return section("");
+    }
+
+    private ConfigurationSection section(String prefix) {
+        String path = prefix.isEmpty() ? name : name + "." + prefix.substring(0, prefix.length() - 1);
+        return FakeObjects.proxy(ConfigurationSection.class, new Handler(prefix, path));
+    }
+
+    private boolean isSection(String path) {
+        for (String key : values.keySet()) {
+            if (key.startsWith(path + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private class Handler implements InvocationHandler {
+        private final String prefix;
+        private final String path;
+
+        Handler(String prefix, String path) {
+            this.prefix = prefix;
+            this.path = path;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            Object objectResult = FakeObjects.handleObjectMethod(proxy, method, args, "FakeConfiguration{" + path + "}");
+            if (objectResult != null) {
+                return objectResult;
+            }
+            Object result = handle(method, args);
+            return result != null ? result : FakeObjects.defaultValue(method.getReturnType());
+        }
+
+        private Object handle(Method method, Object[] args) {
+            switch (method.getName()) {
+                case "getCurrentPath":
+                    return path;
+                case "getKeys":
+                    return getKeys();
+                case "contains":
+                    return values.containsKey(prefix + args[0]) || isSection(prefix + args[0]);
+                case "isString":
+                    return values.get(prefix + args[0]) instanceof String;
+                case "getString": {
+                    Object value = values.get(prefix + args[0]);
+                    return value instanceof String ? value : args.length > 1 ? args[1] : null;
+                }
+                case "isConfigurationSection":
+                    return isSection(prefix + args[0]);
+                case "getConfigurationSection":
+                    return isSection(prefix + args[0]) ? section(prefix + args[0] + ".") : null;
+                default:
+                    return null;
+            }
+        }
+
+        private Set<String> getKeys() {
+            Set<String> keys = new LinkedHashSet<>();
+            for (String key : values.keySet()) {
+                if (key.startsWith(prefix)) {
+                    String rest = key.substring(prefix.length());
+                    int dot = rest.indexOf('.');
+                    keys.add(dot < 0 ? rest : rest.substring(0, dot));
+                }
+            }
+            return keys;
+        }
+    }
+}
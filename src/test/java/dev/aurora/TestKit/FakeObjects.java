@@ -0,0 +1,69 @@
+package dev.aurora.TestKit;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * Helpers for building proxy-backed fakes of Bukkit interfaces. Only the methods the
+ * framework actually uses are implemented; every other method returns a neutral default.
+ */
+final class FakeObjects {
+
+    private FakeObjects() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T proxy(Class<T> type, InvocationHandler handler, Class<?>... extraTypes) {
+        Class<?>[] interfaces = new Class<?>[extraTypes.length + 1];
+        interfaces[0] = type;
+        System.arraycopy(extraTypes, 0, interfaces, 1, extraTypes.length);
+        return (T) Proxy.newProxyInstance(FakeObjects.class.getClassLoader(), interfaces, handler);
+    }
+
+    /**
+     * Handles the {@link Object} methods for a proxy so it can be used in maps and logs.
+     *
+     * @return The result, or null if the method is not an Object method.
+     */
+    static Object handleObjectMethod(Object proxy, Method method, Object[] args, String description) {
+        switch (method.getName()) {
+            case "equals":
+                return method.getParameterCount() == 1 ? proxy == args[0] : null;
+            case "hashCode":
+                return method.getParameterCount() == 0 ? System.identityHashCode(proxy) : null;
+            case "toString":
+                return method.getParameterCount() == 0 ? description : null;
+            default:
+                return null;
+        }
+    }
+
+    static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) {
+            return null;
+        }
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == char.class) {
+            return '\0';
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == float.class) {
+            return 0F;
+        }
+        if (type == double.class) {
+            return 0D;
+        }
+        if (type == byte.class) {
+            return (byte) 0;
+        }
+        if (type == short.class) {
+            return (short) 0;
+        }
+        return 0;
+    }
+}
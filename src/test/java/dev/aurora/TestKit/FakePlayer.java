@@ -0,0 +1,47 @@
+package dev.aurora.TestKit;
+
+import org.bukkit.entity.Player;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * A headless player. Has a stable offline-mode UUID derived from its name, records received
+ * messages and is reported as online by the {@link FakeServer} while it is joined.
+ */
+public class FakePlayer extends FakeCommandSender {
+    private final UUID uniqueId;
+
+    public FakePlayer(String name) {
+        this(name, UUID.nameUUIDFromBytes(("OfflinePlayer:" + name).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public FakePlayer(String name, UUID uniqueId) {
+        super(name, Player.class);
+        this.uniqueId = uniqueId;
+    }
+
+    @Override
+    protected Object handle(Method method, Object[] args) {
+        switch (method.getName()) {
+            case "getUniqueId":
+                return uniqueId;
+            case "getDisplayName":
+            case "getPlayerListName":
+                return getName();
+            case "isOnline":
+                return FakeServer.get().getPlayerExact(getName()) == asSender();
+            default:
+                return super.handle(method, args);
+        }
+    }
+
+    public UUID getUniqueId() {
+        return uniqueId;
+    }
+
+    public Player asPlayer() {
+        return (Player) asSender();
+    }
+}
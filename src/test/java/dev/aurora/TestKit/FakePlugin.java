@@ -0,0 +1,123 @@
+package dev.aurora.TestKit;
+
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.PluginCommand;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.plugin.java.JavaPluginLoader;
+
+import java.io.File;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A plugin that can be constructed outside a server. Commands requested through
+ * {@link #getCommand(String)} are created on demand, so a CommandManager registers against it
+ * exactly as it would against a plugin.yml, and {@link #dispatch(CommandSender, String)} and
+ * {@link #tabComplete(CommandSender, String)} drive the registered executors and completers directly.
+ */
+public class FakePlugin extends JavaPlugin {
+    private final Map<String, PluginCommand> commands;
+
+    public FakePlugin(String name) {
+        this(name, new File(System.getProperty("java.io.tmpdir"), "aurora-testkit-" + name));
+    }
+
+    public FakePlugin(String name, File dataFolder) {
+        super(new JavaPluginLoader(FakeServer.get().getServer()), new PluginDescriptionFile(name, "test", FakePlugin.class.getName()),
+                dataFolder, new File(dataFolder, name + ".jar"));
+        this.commands = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public PluginCommand getCommand(String name) {
+        String key = name.toLowerCase();
+        PluginCommand command = commands.get(key);
+        if (command == null) {
+            try {
+                Constructor<PluginCommand> constructor = PluginCommand.class.getDeclaredConstructor(String.class, Plugin.class);
+                constructor.setAccessible(true);
+                command = constructor.newInstance(name, this);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Could not create PluginCommand " + name, e);
+            }
+            commands.put(key, command);
+        }
+        return command;
+    }
+
+    /**
+     * Runs a command line as the sender, the same way the server would after a player typed it.
+     *
+     * @param sender The sender.
+     * @param line   The command line, with or without a leading slash.
+     * @return The executor's return value, or false if the command is unknown.
+     */
+    public boolean dispatch(CommandSender sender, String line) {
+        String[] parts = split(line);
+        return dispatch(sender, parts[0], Arrays.copyOfRange(parts, 1, parts.length));
+    }
+
+    /**
+     * Runs a pre-split command as the sender.
+     *
+     * @param sender The sender.
+     * @param label  The command label or alias.
+     * @param args   The arguments.
+     * @return The executor's return value, or false if the command is unknown.
+     */
+    public boolean dispatch(CommandSender sender, String label, String[] args) {
+        PluginCommand command = resolve(label);
+        if (command == null || command.getExecutor() == null) {
+            return false;
+        }
+        return command.getExecutor().onCommand(sender, command, label, args);
+    }
+
+    /**
+     * Requests tab completions for a partial command line. A trailing space starts a new empty argument.
+     *
+     * @param sender The sender.
+     * @param line   The partial command line.
+     * @return The completions, or an empty list if the command is unknown.
+     */
+    public List<String> tabComplete(CommandSender sender, String line) {
+        String[] parts = split(line);
+        String[] args = Arrays.copyOfRange(parts, 1, parts.length);
+        if (line.endsWith(" ")) {
+            args = Arrays.copyOf(args, args.length + 1);
+            args[args.length - 1] = "";
+        }
+        PluginCommand command = resolve(parts[0]);
+        if (command == null || command.getTabCompleter() == null) {
+            return new ArrayList<>();
+        }
+        List<String> completions = command.getTabCompleter().onTabComplete(sender, command, parts[0], args);
+        return completions != null ? completions : new ArrayList<>();
+    }
+
+    private PluginCommand resolve(String label) {
+        PluginCommand command = commands.get(label.toLowerCase());
+        if (command != null) {
+            return command;
+        }
+        for (PluginCommand candidate : commands.values()) {
+            for (String alias : candidate.getAliases()) {
+                if (alias.equalsIgnoreCase(label)) {
+                    return candidate;
+                }
+            }
+        }
+        return null;
+    }
+
+    static String[] split(String line) {
+        String trimmed = line.startsWith("/") ? line.substring(1) : line;
+        return trimmed.trim().split(" +");
+    }
+}
@@ -0,0 +1,60 @@
+package dev.aurora.TestKit;
+
+import dev.aurora.Command.AuroraCommand;
+import dev.aurora.Manager.CommandManager;
+import dev.aurora.struct.Types.Integers.IntegerArgumentType;
+import dev.aurora.struct.Types.Player.OnlinePlayerArgumentType;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class FakePluginTest {
+    private FakePlugin plugin;
+    private FakePlayer bob;
+
+    @Before
+    public void setUp() {
+        FakeServer server = FakeServer.get();
+        server.reset();
+        plugin = new FakePlugin("PluginTest");
+        bob = server.addPlayer("Bob");
+        server.addPlayer("Alice");
+        CommandManager manager = new CommandManager(plugin);
+        new AuroraCommand("pay", manager)
+                .addArgument("target", new OnlinePlayerArgumentType())
+                .addArgument("amount", new IntegerArgumentType())
+                .addExecution(CommandSender.class, (sender, context) ->
+                        sender.sendMessage("paid " + context.<Player>getArgument("target").getName() + " " + context.getArgument("amount")))
+                .register();
+    }
+
+    @Test
+    public void dispatchesToRegisteredCommands() {
+        assertTrue(plugin.dispatch(bob.asPlayer(), "/pay alice 5"));
+        assertEquals("paid Alice 5", bob.getLastMessage());
+    }
+
+    @Test
+    public void recordsFrameworkErrors() {
+        plugin.dispatch(bob.asPlayer(), "pay alice five");
+        assertEquals("§c'five' is not a valid number!", bob.getLastMessage());
+    }
+
+    @Test
+    public void reportsUnknownCommands() {
+        assertFalse(plugin.dispatch(bob.asPlayer(), "/nothing here"));
+        assertTrue(bob.getMessages().isEmpty());
+    }
+
+    @Test
+    public void completesArguments() {
+        assertEquals(Collections.singletonList("Alice"), plugin.tabComplete(bob.asPlayer(), "/pay al"));
+    }
+}
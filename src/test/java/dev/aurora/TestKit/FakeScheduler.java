@@ -0,0 +1,207 @@
+package dev.aurora.TestKit;
+
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+
+/**
+ * A deterministic scheduler driven manually through {@link #tick()}. Asynchronous tasks are
+ * run on the ticking thread as well, so tests observe a stable ordering.
+ */
+public class FakeScheduler implements InvocationHandler {
+    private final BukkitScheduler scheduler;
+    private final Map<Integer, ScheduledTask> tasks;
+    private long currentTick;
+    private int nextId;
+    private ScheduledTask running;
+
+    private class ScheduledTask implements InvocationHandler {
+        private final int id;
+        private final Plugin owner;
+        private final Runnable runnable;
+        private final long period;
+        private final boolean sync;
+        private final BukkitTask handle;
+        private long nextRun;
+
+        ScheduledTask(Plugin owner, Runnable runnable, long delay, long period, boolean sync) {
+            this.id = ++nextId;
+            this.owner = owner;
+            this.runnable = runnable;
+            this.period = period;
+            this.sync = sync;
+            this.nextRun = currentTick + Math.max(1L, delay);
+            this.handle = FakeObjects.proxy(BukkitTask.class, this);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            Object objectResult = FakeObjects.handleObjectMethod(proxy, method, args, "FakeTask{" + id + "}");
+            if (objectResult != null) {
+                return objectResult;
+            }
+            switch (method.getName()) {
+                case "getTaskId":
+                    return id;
+                case "getOwner":
+                    return owner;
+                case "isSync":
+                    return sync;
+                case "isCancelled":
+                    return !tasks.containsKey(id);
+                case "cancel":
+                    tasks.remove(id);
+                    return null;
+                default:
+                    return FakeObjects.defaultValue(method.getReturnType());
+            }
+        }
+    }
+
+    public FakeScheduler() {
+        this.tasks = new LinkedHashMap<>();
+        this.scheduler = FakeObjects.proxy(BukkitScheduler.class, this);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        Object objectResult = FakeObjects.handleObjectMethod(proxy, method, args, "FakeScheduler");
+        if (objectResult != null) {
+            return objectResult;
+        }
+        String name = method.getName();
+        boolean async = name.contains("Async");
+        switch (name) {
+            case "runTask":
+            case "runTaskAsynchronously":
+                return schedule(args, 0L, -1L, !async).handle;
+            case "runTaskLater":
+            case "runTaskLaterAsynchronously":
+                return schedule(args, (Long) args[2], -1L, !async).handle;
+            case "runTaskTimer":
+            case "runTaskTimerAsynchronously":
+                return schedule(args, (Long) args[2], (Long) args[3], !async).handle;
+            case "scheduleSyncDelayedTask":
+            case "scheduleAsyncDelayedTask":
+                return schedule(args, args.length > 2 ? (Long) args[2] : 0L, -1L, !async).id;
+            case "scheduleSyncRepeatingTask":
+            case "scheduleAsyncRepeatingTask":
+                return schedule(args, (Long) args[2], (Long) args[3], !async).id;
+            case "cancelTask":
+                tasks.remove((Integer) args[0]);
+                return null;
+            case "cancelTasks":
+                tasks.values().removeIf(task -> task.owner == args[0]);
+                return null;
+            case "cancelAllTasks":
+                tasks.clear();
+                return null;
+            case "isQueued":
+                return tasks.containsKey((Integer) args[0]);
+            case "isCurrentlyRunning":
+                return running != null && running.id == (Integer) args[0];
+            case "callSyncMethod":
+                FutureTask<Object> future = new FutureTask<>((Callable<Object>) args[1]);
+                schedule(new Object[]{args[0], future}, 0L, -1L, true);
+                return future;
+            case "getPendingTasks":
+                List<BukkitTask> pending = new ArrayList<>();
+                for (ScheduledTask task : tasks.values()) {
+                    pending.add(task.handle);
+                }
+                return pending;
+            case "getActiveWorkers":
+                return new ArrayList<>();
+            default:
+                return FakeObjects.defaultValue(method.getReturnType());
+        }
+    }
+
+    private ScheduledTask schedule(Object[] args, long delay, long period, boolean sync) {
+        ScheduledTask task = new ScheduledTask((Plugin) args[0], (Runnable) args[1], delay, period, sync);
+        tasks.put(task.id, task);
+        return task;
+    }
+
+    /**
+     * Advances the scheduler by one tick, running every task that is due.
+     */
+    public void tick() {
+        currentTick++;
+        List<ScheduledTask> due = new ArrayList<>();
+        for (ScheduledTask task : tasks.values()) {
+            if (task.nextRun <= currentTick) {
+                due.add(task);
+            }
+        }
+        for (ScheduledTask task : due) {
+            if (!tasks.containsKey(task.id)) {
+                continue;
+            }
+            if (task.period > 0) {
+                task.nextRun = currentTick + task.period;
+            } else {
+                tasks.remove(task.id);
+            }
+            running = task;
+            try {
+                task.runnable.run();
+            } finally {
+                running = null;
+            }
+        }
+    }
+
+    /**
+     * Advances the scheduler by several ticks.
+     *
+     * @param ticks The number of ticks to run.
+     */
+    public void tick(int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            tick();
+        }
+    }
+
+    /**
+     * Ticks until no tasks remain or the limit is reached.
+     *
+     * @param maxTicks The maximum number of ticks to run.
+     * @return The number of ticks that were run.
+     */
+    public int runUntilIdle(int maxTicks) {
+        int ticks = 0;
+        while (!tasks.isEmpty() && ticks < maxTicks) {
+            tick();
+            ticks++;
+        }
+        return ticks;
+    }
+
+    public void reset() {
+        tasks.clear();
+    }
+
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    public int getPendingTaskCount() {
+        return tasks.size();
+    }
+
+    public BukkitScheduler asScheduler() {
+        return scheduler;
+    }
+}
@@ -0,0 +1,75 @@
+package dev.aurora.TestKit;
+
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class FakeSchedulerTest {
+    private FakeScheduler scheduler;
+    private FakePlugin plugin;
+
+    @Before
+    public void setUp() {
+        FakeServer.get().reset();
+        scheduler = FakeServer.get().getScheduler();
+        plugin = new FakePlugin("SchedulerTest");
+    }
+
+    @Test
+    public void runsDelayedTasksOnTheirTick() {
+        List<String> ran = new ArrayList<>();
+        BukkitScheduler bukkit = scheduler.asScheduler();
+        bukkit.runTaskLater(plugin, () -> ran.add("later"), 3L);
+        bukkit.runTask(plugin, () -> ran.add("now"));
+
+        scheduler.tick();
+        assertEquals(1, ran.size());
+        scheduler.tick(2);
+        assertEquals(2, ran.size());
+        assertEquals("later", ran.get(1));
+        assertEquals(0, scheduler.getPendingTaskCount());
+    }
+
+    @Test
+    public void repeatsTimersUntilCancelled() {
+        int[] runs = new int[1];
+        BukkitTask task = scheduler.asScheduler().runTaskTimer(plugin, () -> runs[0]++, 1L, 2L);
+
+        scheduler.tick(5);
+        assertEquals(3, runs[0]);
+        task.cancel();
+        assertFalse(scheduler.asScheduler().isQueued(task.getTaskId()));
+        scheduler.tick(5);
+        assertEquals(3, runs[0]);
+    }
+
+    @Test
+    public void runUntilIdleStopsWhenNothingIsQueued() {
+        scheduler.asScheduler().runTaskLater(plugin, () -> { }, 4L);
+        assertEquals(4, scheduler.runUntilIdle(100));
+        assertEquals(0, scheduler.runUntilIdle(100));
+    }
+
+    @Test
+    public void answersTaskQueries() throws Exception {
+        BukkitTask task = scheduler.asScheduler().runTaskLater(plugin, () -> { }, 2L);
+        assertTrue(scheduler.asScheduler().isQueued(task.getTaskId()));
+        assertFalse(scheduler.asScheduler().isCurrentlyRunning(task.getTaskId()));
+
+        assertEquals(1, scheduler.asScheduler().getPendingTasks().size());
+
+        Future<String> future = scheduler.asScheduler().callSyncMethod(plugin, () -> "done");
+        assertFalse(future.isDone());
+        scheduler.tick();
+        assertEquals("done", future.get());
+    }
+}
@@ -0,0 +1,184 @@
+package dev.aurora.TestKit;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.command.ConsoleCommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.PluginManager;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * A headless Bukkit server. Bukkit only accepts one server per JVM, so a single instance is
+ * installed on first use through {@link #get()} and {@link #reset()} clears it between tests.
+ */
+public class FakeServer implements InvocationHandler {
+    private static FakeServer instance;
+
+    private final Server server;
+    private final FakeScheduler scheduler;
+    private final Map<String, FakePlayer> players;
+    private final Map<String, World> worlds;
+    private final FakeCommandSender console;
+    private final PluginManager pluginManager;
+    private final Logger logger;
+    private final Thread primaryThread;
+
+    private FakeServer() {
+        this.scheduler = new FakeScheduler();
+        this.players = new ConcurrentHashMap<>();
+        this.worlds = new ConcurrentHashMap<>();
+        this.console = new FakeCommandSender("CONSOLE", ConsoleCommandSender.class).setOp(true);
+        this.logger = Logger.getLogger("FakeServer");
+        this.primaryThread = Thread.currentThread();
+        this.pluginManager = FakeObjects.proxy(PluginManager.class, (proxy, method, args) -> {
+            Object objectResult = FakeObjects.handleObjectMethod(proxy, method, args, "FakePluginManager");
+            return objectResult != null ? objectResult : FakeObjects.defaultValue(method.getReturnType());
+        });
+        this.server = FakeObjects.proxy(Server.class, this);
+    }
+
+    /**
+     * Gets the fake server, installing it into {@link Bukkit} on first use.
+     *
+     * @return The fake server.
+     * @throws IllegalStateException If a different server is already installed.
+     */
+    public static synchronized FakeServer get() {
+        if (instance == null) {
+            if (Bukkit.getServer() != null) {
+                throw new IllegalStateException("A non-fake Bukkit server is already installed");
+            }
+            instance = new FakeServer();
+            Bukkit.setServer(instance.server);
+        }
+        return instance;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        Object objectResult = FakeObjects.handleObjectMethod(proxy, method, args, "FakeServer");
+        if (objectResult != null) {
+            return objectResult;
+        }
+        switch (method.getName()) {
+            case "getName":
+                return "FakeServer";
+            case "getVersion":
+            case "getBukkitVersion":
+                return "headless";
+            case "getLogger":
+                return logger;
+            case "getScheduler":
+                return scheduler.asScheduler();
+            case "getPluginManager":
+                return pluginManager;
+            case "getConsoleSender":
+                return console.asSender();
+            case "isPrimaryThread":
+                return Thread.currentThread() == primaryThread;
+            case "getOnlinePlayers":
+                return getOnlinePlayers();
+            case "getPlayer":
+            case "getPlayerExact":
+                if (args[0] instanceof UUID) {
+                    for (FakePlayer player : players.values()) {
+                        if (player.getUniqueId().equals(args[0])) {
+                            return player.asPlayer();
+                        }
+                    }
+                    return null;
+                }
+                return getPlayerExact((String) args[0]);
+            case "getWorld":
+                return args[0] instanceof String ? worlds.get(((String) args[0]).toLowerCase()) : null;
+            case "getWorlds":
+                return new ArrayList<>(worlds.values());
+            default:
+                return FakeObjects.defaultValue(method.getReturnType());
+        }
+    }
+
+    /**
+     * Adds an online player.
+     *
+     * @param name The player name.
+     * @return The new player.
+     */
+    public FakePlayer addPlayer(String name) {
+        FakePlayer player = new FakePlayer(name);
+        players.put(name.toLowerCase(), player);
+        return player;
+    }
+
+    public void removePlayer(String name) {
+        players.remove(name.toLowerCase());
+    }
+
+    /**
+     * Adds a world that only reports its name.
+     *
+     * @param name The world name.
+     * @return The new world.
+     */
+    public World addWorld(String name) {
+        World world = FakeObjects.proxy(World.class, (proxy, method, args) -> {
+            Object objectResult = FakeObjects.handleObjectMethod(proxy, method, args, "FakeWorld{" + name + "}");
+            if (objectResult != null) {
+                return objectResult;
+            }
+            return method.getName().equals("getName") ? name : FakeObjects.defaultValue(method.getReturnType());
+        });
+        worlds.put(name.toLowerCase(), world);
+        return world;
+    }
+
+    public Player getPlayerExact(String name) {
+        FakePlayer player = players.get(name.toLowerCase());
+        return player != null ? player.asPlayer() : null;
+    }
+
+    public FakePlayer getFakePlayer(String name) {
+        return players.get(name.toLowerCase());
+    }
+
+    public Collection<? extends Player> getOnlinePlayers() {
+        List<Player> online = new ArrayList<>();
+        for (FakePlayer player : players.values()) {
+            online.add(player.asPlayer());
+        }
+        return Collections.unmodifiableList(online);
+    }
+
+    /**
+     * Removes all players and worlds and cancels all scheduled tasks.
+     */
+    public void reset() {
+        players.clear();
+        worlds.clear();
+        scheduler.reset();
+        console.clearMessages();
+    }
+
+    public Server getServer() {
+        return server;
+    }
+
+    public FakeScheduler getScheduler() {
+        return scheduler;
+    }
+
+    public FakeCommandSender getConsole() {
+        return console;
+    }
+}
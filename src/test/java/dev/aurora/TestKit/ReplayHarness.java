@@ -0,0 +1,198 @@
+package dev.aurora.TestKit;
+
+import dev.aurora.Audit.AuditLogReader;
+import org.bukkit.command.CommandSender;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Replays a recorded command trace against the commands registered on a {@link FakePlugin}
+ * with many simulated players, and reports throughput and latency percentiles.
+ *
+ * <p>Text traces contain one command per line, optionally prefixed by the sender name and a tab.
+ * Blank lines and lines starting with '#' are ignored. Audit logs written by
+ * {@link dev.aurora.Audit.AuditLogWriter} can be replayed directly.</p>
+ */
+public class ReplayHarness {
+    private static final String CONSOLE = "CONSOLE";
+
+    private final FakePlugin plugin;
+    private final List<TraceEntry> trace;
+    private int playerCount;
+    private int commandsPerTick;
+    private int warmupIterations;
+
+    private static class TraceEntry {
+        private final String sender;
+        private final String label;
+        private final String[] args;
+
+        TraceEntry(String sender, String label, String[] args) {
+            this.sender = sender;
+            this.label = label;
+            this.args = args;
+        }
+    }
+
+    public ReplayHarness(FakePlugin plugin) {
+        this.plugin = plugin;
+        this.trace = new ArrayList<>();
+        this.playerCount = 100;
+        this.commandsPerTick = 50;
+        this.warmupIterations = 1;
+    }
+
+    /**
+     * Adds a single command line to the trace.
+     *
+     * @param sender The recorded sender name, or null to assign the next simulated player.
+     * @param line   The command line, with or without a leading slash.
+     * @return This harness for chaining.
+     */
+    public ReplayHarness addLine(String sender, String line) {
+        String[] parts = FakePlugin.split(line);
+        trace.add(new TraceEntry(sender, parts[0], Arrays.copyOfRange(parts, 1, parts.length)));
+        return this;
+    }
+
+    /**
+     * Appends every command in a text trace file.
+     *
+     * @param file The trace file.
+     * @return This harness for chaining.
+     * @throws IOException If the file cannot be read.
+     */
+    public ReplayHarness loadTextTrace(File file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.trim().isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                int tab = line.indexOf('\t');
+                addLine(tab > 0 ? line.substring(0, tab) : null, tab > 0 ? line.substring(tab + 1) : line);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Appends every command recorded in an audit log directory, oldest first.
+     *
+     * @param directory The audit segment directory.
+     * @return This harness for chaining.
+     * @throws IOException If a segment cannot be read.
+     */
+    public ReplayHarness loadAuditTrace(File directory) throws IOException {
+        new AuditLogReader(directory).scan(record -> trace.add(new TraceEntry(record.getSenderName(), record.getCommand(), record.getArgs())));
+        return this;
+    }
+
+    /**
+     * Sets how many simulated players recorded senders are spread across.
+     *
+     * @param playerCount The number of players.
+     * @return This harness for chaining.
+     */
+    public ReplayHarness setPlayerCount(int playerCount) {
+        this.playerCount = playerCount;
+        return this;
+    }
+
+    /**
+     * Sets how many dispatches happen between scheduler ticks, so tick-driven features make progress.
+     *
+     * @param commandsPerTick The number of dispatches per tick.
+     * @return This harness for chaining.
+     */
+    public ReplayHarness setCommandsPerTick(int commandsPerTick) {
+        this.commandsPerTick = commandsPerTick;
+        return this;
+    }
+
+    /**
+     * Sets how many unmeasured passes over the trace run first to warm up the JIT.
+     *
+     * @param warmupIterations The number of warmup passes.
+     * @return This harness for chaining.
+     */
+    public ReplayHarness setWarmupIterations(int warmupIterations) {
+        this.warmupIterations = warmupIterations;
+        return this;
+    }
+
+    /**
+     * Replays the trace the given number of times and measures every dispatch.
+     *
+     * @param iterations The number of measured passes over the trace.
+     * @return The report for the measured passes.
+     */
+    public ReplayReport run(int iterations) {
+        FakeServer server = FakeServer.get();
+        CommandSender[] players = new CommandSender[playerCount];
+        for (int i = 0; i < playerCount; i++) {
+            FakePlayer player = server.getFakePlayer("ReplayPlayer" + i);
+            if (player == null) {
+                player = server.addPlayer("ReplayPlayer" + i);
+            }
+            player.setOp(true).setRecording(false);
+            players[i] = player.asPlayer();
+        }
+        CommandSender[] senders = new CommandSender[trace.size()];
+        for (int i = 0; i < senders.length; i++) {
+            String name = trace.get(i).sender;
+            if (CONSOLE.equalsIgnoreCase(name)) {
+                senders[i] = server.getConsole().asSender();
+            } else {
+                int index = name != null ? Math.floorMod(name.hashCode(), playerCount) : i % playerCount;
+                senders[i] = players[index];
+            }
+        }
+
+        for (int i = 0; i < warmupIterations; i++) {
+            replay(senders, null, 0);
+        }
+        long[] latencies = new long[trace.size() * iterations];
+        int failures = 0;
+        int unknown = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            int[] pass = replay(senders, latencies, i * trace.size());
+            failures += pass[0];
+            unknown += pass[1];
+        }
+        long wall = System.nanoTime() - start;
+        return new ReplayReport(latencies, wall, failures, unknown);
+    }
+
+    private int[] replay(CommandSender[] senders, long[] latencies, int offset) {
+        FakeScheduler scheduler = FakeServer.get().getScheduler();
+        int failures = 0;
+        int unknown = 0;
+        for (int i = 0; i < trace.size(); i++) {
+            TraceEntry entry = trace.get(i);
+            long start = System.nanoTime();
+            try {
+                if (!plugin.dispatch(senders[i], entry.label, entry.args.clone())) {
+                    unknown++;
+                }
+            } catch (RuntimeException e) {
+                failures++;
+            }
+            if (latencies != null) {
+                latencies[offset + i] = System.nanoTime() - start;
+            }
+            if (commandsPerTick > 0 && (i + 1) % commandsPerTick == 0) {
+                scheduler.tick();
+            }
+        }
+        return new int[]{failures, unknown};
+    }
+}
@@ -0,0 +1,65 @@
+package dev.aurora.TestKit;
+
+import dev.aurora.Command.AuroraCommand;
+import dev.aurora.Manager.CommandManager;
+import org.bukkit.command.CommandSender;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ReplayHarnessTest {
+    private FakePlugin plugin;
+    private int executions;
+
+    @Before
+    public void setUp() {
+        FakeServer.get().reset();
+        plugin = new FakePlugin("ReplayTest");
+        CommandManager manager = new CommandManager(plugin);
+        new AuroraCommand("ping", manager)
+                .addExecution(CommandSender.class, (sender, context) -> executions++)
+                .register();
+        new AuroraCommand("boom", manager)
+                .addExecution(CommandSender.class, (sender, context) -> {
+                    throw new IllegalStateException("boom");
+                })
+                .register();
+    }
+
+    @Test
+    public void countsDispatchesFailuresAndUnknownCommands() {
+        ReplayReport report = new ReplayHarness(plugin)
+                .addLine(null, "/ping")
+                .addLine("Alice", "/boom")
+                .addLine(null, "/missing")
+                .setPlayerCount(4)
+                .setWarmupIterations(0)
+                .run(10);
+
+        assertEquals(30, report.getDispatchCount());
+        assertEquals(10, report.getFailureCount());
+        assertEquals(10, report.getUnknownCount());
+        assertEquals(10, executions);
+        assertTrue(report.getPercentileNanos(50) <= report.getMaxNanos());
+    }
+
+    @Test
+    public void loadsTextTraces() throws IOException {
+        File trace = File.createTempFile("trace", ".txt");
+        trace.deleteOnExit();
+        Files.write(trace.toPath(), Arrays.asList("# comment", "", "Bob\t/ping", "ping"), StandardCharsets.UTF_8);
+
+        ReplayReport report = new ReplayHarness(plugin).loadTextTrace(trace).setWarmupIterations(0).run(1);
+
+        assertEquals(2, report.getDispatchCount());
+        assertEquals(2, executions);
+    }
+}
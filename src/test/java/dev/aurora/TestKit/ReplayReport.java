@@ -0,0 +1,74 @@
+package dev.aurora.TestKit;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput and latency figures from a {@link ReplayHarness} run.
+ */
+public class ReplayReport {
+    private final long[] latencies;
+    private final long wallNanos;
+    private final int failures;
+    private final int unknown;
+
+    ReplayReport(long[] latencies, long wallNanos, int failures, int unknown) {
+        this.latencies = latencies.clone();
+        Arrays.sort(this.latencies);
+        this.wallNanos = wallNanos;
+        this.failures = failures;
+        this.unknown = unknown;
+    }
+
+    public int getDispatchCount() {
+        return latencies.length;
+    }
+
+    /**
+     * Gets how many dispatches threw an exception out of the executor.
+     *
+     * @return The failure count.
+     */
+    public int getFailureCount() {
+        return failures;
+    }
+
+    /**
+     * Gets how many dispatches named a command that is not registered.
+     *
+     * @return The unknown command count.
+     */
+    public int getUnknownCount() {
+        return unknown;
+    }
+
+    public double getThroughputPerSecond() {
+        return wallNanos > 0 ? latencies.length * (double) TimeUnit.SECONDS.toNanos(1) / wallNanos : 0;
+    }
+
+    /**
+     * Gets a latency percentile.
+     *
+     * @param percentile The percentile, between 0 and 100.
+     * @return The latency in nanoseconds.
+     */
+    public long getPercentileNanos(double percentile) {
+        if (latencies.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * latencies.length) - 1;
+        return latencies[Math.max(0, Math.min(latencies.length - 1, index))];
+    }
+
+    public long getMaxNanos() {
+        return latencies.length > 0 ? latencies[latencies.length - 1] : 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d dispatches (%d failed, %d unknown) at %.0f/s; p50=%.3fms p90=%.3fms p99=%.3fms p99.9=%.3fms max=%.3fms",
+                latencies.length, failures, unknown, getThroughputPerSecond(),
+                getPercentileNanos(50) / 1e6, getPercentileNanos(90) / 1e6, getPercentileNanos(99) / 1e6,
+                getPercentileNanos(99.9) / 1e6, getMaxNanos() / 1e6);
+    }
+}
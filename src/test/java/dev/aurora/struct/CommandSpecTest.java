@@ -0,0 +1,131 @@
+package dev.aurora.struct;
+
+import dev.aurora.Execption.ArgumentParseException;
+import dev.aurora.struct.Types.Boolean.BooleanArgumentType;
+import dev.aurora.struct.Types.Integers.IntegerArgumentType;
+import dev.aurora.struct.Types.Strings.StringArgumentType;
+import org.bukkit.command.CommandSender;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CommandSpecTest {
+    private final ArgumentTypeRegistry registry = new ArgumentTypeRegistry();
+    private final IntegerArgumentType integer = new IntegerArgumentType();
+    private final BooleanArgumentType bool = new BooleanArgumentType();
+
+    @Before
+    public void setUp() {
+        registry.registerType("integer", integer);
+        registry.registerType("boolean", bool);
+        registry.registerType("string", new StringArgumentType());
+    }
+
+    @Test
+    public void parsesNamePathAndSlots() {
+        CommandSpec spec = CommandSpec.parse("Eco Give <amount:integer> [silent:boolean]", registry);
+
+        assertEquals("eco", spec.getName());
+        assertEquals(Collections.singletonList("give"), spec.getPath());
+        assertEquals(2, spec.getArgumentCount());
+        assertEquals("amount", spec.getArgumentName(0));
+        assertSame(integer, spec.getArgumentType(0));
+        assertFalse(spec.isOptional(0));
+        assertSame(bool, spec.getArgumentType(1));
+        assertTrue(spec.isOptional(1));
+    }
+
+    @Test
+    public void untypedSlotsAreStrings() {
+        CommandSpec spec = CommandSpec.parseArguments("<reason>", registry);
+
+        assertEquals("", spec.getName());
+        assertEquals("string", spec.getArgumentType(0).getName().toLowerCase());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsUnknownTypes() {
+        CommandSpec.parse("tp <target:nothing>", registry);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsRequiredAfterOptional() {
+        CommandSpec.parse("tp [a:integer] <b:integer>", registry);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsLiteralsAfterArguments() {
+        CommandSpec.parse("tp <a:integer> now", registry);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsSpecsWithoutName() {
+        CommandSpec.parse("<a:integer>", registry);
+    }
+
+    @Test
+    public void compiledPlanParsesGivenSlots() throws ArgumentParseException {
+        ParsePlan plan = new ParsePlan(new String[]{"amount", "silent"}, new ArgumentType<?>[]{integer, bool}, 1);
+        CommandContext context = new CommandContext();
+
+        plan.parse(null, new String[]{"give", "7"}, 1, context);
+
+        assertEquals("<amount> [silent]", plan.getUsage());
+        assertTrue(plan.accepts(1));
+        assertFalse(plan.accepts(0));
+        assertEquals(Integer.valueOf(7), context.getArgument("amount"));
+        assertFalse(context.hasArgument("silent"));
+    }
+
+    @Test(expected = ArgumentParseException.class)
+    public void compiledPlanReportsInvalidValues() throws ArgumentParseException {
+        ParsePlan plan = new ParsePlan(new String[]{"amount"}, new ArgumentType<?>[]{integer}, 1);
+        plan.parse(null, new String[]{"x"}, 0, new CommandContext());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsInconsistentPlans() {
+        new ParsePlan(new String[]{"a"}, new ArgumentType<?>[]{integer}, 2);
+    }
+
+    @Test
+    public void parsedArgumentsKeepOnlyStableValues() throws ArgumentParseException {
+        ParsePlan plan = new ParsePlan(new String[]{"amount", "name"}, new ArgumentType<?>[]{integer, new CountingType()}, 2);
+        ParsedArguments parsed = ParsedArguments.parse(plan, null, new String[]{"3", "bob"});
+        CommandContext context = new CommandContext();
+
+        parsed.retainStable().resolve(null).fill(context);
+
+        assertEquals(Integer.valueOf(3), context.getArgument("amount"));
+        assertEquals("bob#2", context.getArgument("name"));
+        assertEquals(Arrays.asList("3", "bob"), Arrays.asList(parsed.getArgs()));
+    }
+
+    // An unstable type whose values reveal how often it parsed
+    private static class CountingType implements ArgumentType<String> {
+        private int parses;
+
+        @Override
+        public String getName() {
+            return "counting";
+        }
+
+        @Override
+        public String parse(CommandSender sender, String input) {
+            return input + "#" + (++parses);
+        }
+
+        @Override
+        public List<String> getCompletions(CommandSender sender) {
+            return Collections.emptyList();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package dev.aurora.struct;
+
+import dev.aurora.Execption.ArgumentParseException;
+import dev.aurora.struct.Types.Boolean.BooleanArgumentType;
+import dev.aurora.struct.Types.Integers.IntegerArgumentType;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class FlagSetTest {
+    private final FlagSet flags = new FlagSet(
+            new String[]{"silent", "radius", "force"},
+            new char[]{'s', 'r', '\0'},
+            new ArgumentType<?>[]{null, new IntegerArgumentType(), null});
+
+    @Test
+    public void extractsLongShortAndClusteredOptions() throws ArgumentParseException {
+        Map<String, Object> values = new HashMap<>();
+        String[] positional = flags.extract(null, new String[]{"a", "-sr30", "b", "--force", "--", "-c"}, values);
+
+        assertArrayEquals(new String[]{"a", "b", "-c"}, positional);
+        assertEquals(Boolean.TRUE, values.get("silent"));
+        assertEquals(30, values.get("radius"));
+        assertEquals(Boolean.TRUE, values.get("force"));
+    }
+
+    @Test
+    public void defaultsMissingSwitchesToFalse() throws ArgumentParseException {
+        Map<String, Object> values = new HashMap<>();
+        flags.extract(null, new String[]{"--radius=5"}, values);
+
+        assertEquals(Boolean.FALSE, values.get("silent"));
+        assertEquals(Boolean.FALSE, values.get("force"));
+        assertEquals(5, values.get("radius"));
+    }
+
+    @Test
+    public void keepsNegativeNumbersPositional() throws ArgumentParseException {
+        assertArrayEquals(new String[]{"-5"}, flags.extract(null, new String[]{"-5"}, new HashMap<>()));
+    }
+
+    @Test(expected = ArgumentParseException.class)
+    public void rejectsShortNameWrittenAsLongOption() throws ArgumentParseException {
+        flags.extract(null, new String[]{"--s"}, new HashMap<>());
+    }
+
+    @Test(expected = ArgumentParseException.class)
+    public void rejectsLongNameWrittenAsShortOption() throws ArgumentParseException {
+        FlagSet single = new FlagSet(new String[]{"x"}, new char[]{'\0'}, new ArgumentType<?>[]{null});
+        single.extract(null, new String[]{"-x"}, new HashMap<>());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsDuplicateLongNames() {
+        new FlagSet(new String[]{"silent", "silent"}, new char[]{'\0', '\0'}, new ArgumentType<?>[]{null, null});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsDuplicateShortNames() {
+        new FlagSet(new String[]{"silent", "speed"}, new char[]{'s', 's'}, new ArgumentType<?>[]{null, null});
+    }
+
+    @Test
+    public void longAndShortNamesMayShareALetter() throws ArgumentParseException {
+        FlagSet shared = new FlagSet(new String[]{"f", "force"}, new char[]{'\0', 'f'}, new ArgumentType<?>[]{new IntegerArgumentType(), null});
+        Map<String, Object> values = new HashMap<>();
+
+        shared.extract(null, new String[]{"--f=3", "-f"}, values);
+
+        assertEquals(3, values.get("f"));
+        assertEquals(Boolean.TRUE, values.get("force"));
+    }
+
+    @Test
+    public void completesOptionsAndValues() {
+        FlagSet typed = new FlagSet(new String[]{"enabled"}, new char[]{'e'}, new ArgumentType<?>[]{new BooleanArgumentType()});
+
+        assertEquals(Arrays.asList("--enabled", "-e"), typed.getCompletions(null, new String[]{"-"}));
+        assertEquals(Collections.singletonList("true"), typed.getCompletions(null, new String[]{"-e", "t"}));
+        assertEquals(Collections.singletonList("--enabled=false"), typed.getCompletions(null, new String[]{"--enabled=f"}));
+        assertEquals(Collections.emptyList(), typed.getCompletions(null, new String[]{"--e=t"}));
+        assertNull(typed.getCompletions(null, new String[]{"value"}));
+    }
+}
@@ -0,0 +1,55 @@
+package dev.aurora.struct;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class FlagTableTest {
+
+    @Test
+    public void findsEveryKeyOfLargeTables() {
+        String[] keys = new String[500];
+        int[] values = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = "option-" + i;
+            values[i] = i * 3;
+        }
+        FlagTable table = new FlagTable(keys, values);
+
+        assertEquals(keys.length, table.size());
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals(values[i], table.lookup(keys[i]));
+        }
+        assertEquals(-1, table.lookup("option-500"));
+        assertEquals(-1, table.lookup("option-"));
+    }
+
+    @Test
+    public void looksUpRegionsOfATokenWithoutCopying() {
+        FlagTable table = new FlagTable(new String[]{"duration", "d"}, new int[]{0, 1});
+
+        assertEquals(0, table.lookup("--duration=1d", 2, 10));
+        assertEquals(1, table.lookup("-d", 1, 2));
+        assertEquals(-1, table.lookup("--duration=1d", 2, 9));
+        assertEquals(-1, table.lookup("--", 2, 2));
+    }
+
+    @Test
+    public void looksUpPrefixedKeys() {
+        FlagTable table = new FlagTable(new String[]{"--f", "-f"}, new int[]{0, 1});
+
+        assertEquals(1, table.lookup('-', "-sf", 2, 3));
+        assertEquals(0, table.lookup('-', "--f", 1, 3));
+        assertEquals(0, table.lookup("--f"));
+        assertEquals(-1, table.lookup('+', "-sf", 2, 3));
+        assertEquals(-1, table.lookup('-', "-s", 1, 2));
+    }
+
+    @Test
+    public void handlesEmptyTables() {
+        FlagTable table = new FlagTable(new String[0], new int[0]);
+
+        assertEquals(0, table.size());
+        assertEquals(-1, table.lookup("anything"));
+    }
+}
@@ -0,0 +1,70 @@
+package dev.aurora.struct;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TokenShapeTest {
+
+    @Test
+    public void playerNamesAreCheckedWithoutTheServer() {
+        assertTrue(TokenShape.PLAYER.isWellFormed("Notch_123"));
+        assertFalse(TokenShape.PLAYER.isWellFormed(""));
+        assertFalse(TokenShape.PLAYER.isWellFormed("name-with-dash"));
+        assertFalse(TokenShape.PLAYER.isWellFormed("SeventeenCharName"));
+    }
+
+    @Test
+    public void numbersAreWellFormedOnlyWhenTheyMatch() {
+        assertTrue(TokenShape.INTEGER.isWellFormed("-42"));
+        assertFalse(TokenShape.INTEGER.isWellFormed("4.2"));
+        assertTrue(TokenShape.NUMERIC.isWellFormed("4.2"));
+        assertFalse(TokenShape.NUMERIC.isWellFormed("abc"));
+        assertTrue(TokenShape.COORDINATE.isWellFormed("world,1,2.5,-3"));
+        assertFalse(TokenShape.COORDINATE.isWellFormed("1,2"));
+    }
+
+    @Test
+    public void anythingIsAWellFormedBoolean() {
+        assertTrue(TokenShape.BOOLEAN.isWellFormed("maybe"));
+        assertFalse(TokenShape.BOOLEAN.matches("maybe"));
+        assertTrue(TokenShape.ANY.isWellFormed(""));
+    }
+
+    @Test
+    public void numericAcceptsExactlyWhatDoublesParse() {
+        String[] tokens = {"1", "-1", "+1.5", ".5", "5.", "1e3", "1E-3", "-2.5e+10", "1d", "1.5F", "NaN", "-Infinity",
+                "0x1p3", "0X.8P-1", "0x1A.fp0", "", "-", ".", "e3", "1e", "1e+", "1.2.3", "1x", "0x1", "0x1.5", "nan",
+                "infinity", "Infinityd", "1ef", "--1", "abc", "1_000", "\u0661"};
+        for (String token : tokens) {
+            assertEquals(token, parsesAsDouble(token), TokenShape.NUMERIC.matches(token));
+        }
+    }
+
+    @Test
+    public void integerAcceptsWhatIntegersParseApartFromRange() {
+        assertTrue(TokenShape.INTEGER.matches("+7"));
+        assertTrue(TokenShape.INTEGER.matches("\u0661\u0662"));
+        assertEquals(12, Integer.parseInt("\u0661\u0662"));
+        assertTrue(TokenShape.INTEGER.matches("99999999999"));
+        assertFalse(TokenShape.INTEGER.matches("-"));
+        assertFalse(TokenShape.INTEGER.matches("1e3"));
+    }
+
+    @Test
+    public void coordinatePartsFollowTheNumericShape() {
+        assertTrue(TokenShape.COORDINATE.matches("1e2,.5,-3."));
+        assertFalse(TokenShape.COORDINATE.matches("1,,3"));
+    }
+
+    private static boolean parsesAsDouble(String token) {
+        try {
+            Double.parseDouble(token);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}